@@ -0,0 +1,401 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fully dynamic minimum spanning forest over a link-cut tree and a hierarchy of Euler-tour forests.
+ *
+ * <p>Every edge has a level between 0 and floor(log2 V). Level i keeps an Euler-tour forest of the tree
+ * edges with level at least i and holds each non-tree edge of level i under both endpoints, keyed by
+ * weight. Deleting a tree edge searches from its level down to 0. At each level it raises the smaller
+ * side's tree edges one level, then takes that side's non-tree edges in ascending weight order. Edges
+ * with both endpoints on the smaller side move up a level, and the first edge leaving it is that level's
+ * candidate. The lightest candidate replaces the deleted edge. Candidates found above its level are moved
+ * down to it so that every non-tree edge keeps both endpoints connected at its own level. An edge rises
+ * at most log V times, so updates cost amortized O(log^2 V) plus the work of moving candidates down, which
+ * only happens when a lighter replacement sits at a lower level. Decreasing a tree edge's weight costs
+ * O(log V).
+ */
+public class DynamicMST {
+    private final int vertices;
+    private final LinkCutTree tree;
+    private final EulerTourForest[] forests;
+    private final int[][] vertexNodes;
+    private final int[][] arcNodes;
+    private int[] slotNodes;
+    private int[] levels;
+    private int[] sources;
+    private int[] destinations;
+    private int[] weights;
+    private boolean[] alive;
+    private boolean[] inTree;
+    private int[] treeSlot;
+    private final int[] treeEdges;
+    private int edgeCount;
+    private int treeEdgeCount;
+    private long totalWeight;
+
+    public DynamicMST(int vertices) {
+        this.vertices = vertices;
+        this.tree = new LinkCutTree(vertices + 16);
+        int levelCount = 32 - Integer.numberOfLeadingZeros(Math.max(vertices, 1));
+        this.forests = new EulerTourForest[levelCount];
+        this.vertexNodes = new int[levelCount][];
+        this.arcNodes = new int[levelCount][];
+        this.slotNodes = new int[32];
+        this.levels = new int[16];
+        this.sources = new int[16];
+        this.destinations = new int[16];
+        this.weights = new int[16];
+        this.alive = new boolean[16];
+        this.inTree = new boolean[16];
+        this.treeSlot = new int[16];
+        this.treeEdges = new int[Math.max(vertices - 1, 0)];
+        forest(0);
+    }
+
+    public static DynamicMST from(PrimitiveGraph graph) {
+        return from(graph, MSTAlgorithm.buildMST(graph));
+    }
+
+    public static DynamicMST from(PrimitiveGraph graph, int[] treeEdgeIds) {
+        DynamicMST dynamic = new DynamicMST(graph.getVertices());
+        dynamic.ensureCapacity(graph.getEdgeCount());
+
+        for (int i = 0; i < graph.getEdgeCount(); i++) {
+            dynamic.register(graph.getSource(i), graph.getDestination(i), graph.getWeight(i));
+        }
+
+        for (int edgeId : treeEdgeIds) {
+            dynamic.attach(edgeId, 0);
+        }
+
+        for (int i = 0; i < graph.getEdgeCount(); i++) {
+            if (!dynamic.inTree[i] && graph.getSource(i) != graph.getDestination(i)) {
+                dynamic.addNonTree(i, 0);
+            }
+        }
+
+        return dynamic;
+    }
+
+    public int insertEdge(int source, int destination, int weight) {
+        checkVertex(source);
+        checkVertex(destination);
+        ensureCapacity(edgeCount + 1);
+
+        int edgeId = register(source, destination, weight);
+        place(edgeId);
+        return edgeId;
+    }
+
+    public void deleteEdge(int edgeId) {
+        checkEdge(edgeId);
+        if (inTree[edgeId]) {
+            int level = levels[edgeId];
+            detach(edgeId);
+            replace(sources[edgeId], destinations[edgeId], level);
+        } else {
+            removeNonTree(edgeId);
+        }
+        alive[edgeId] = false;
+    }
+
+    public void restoreEdge(int edgeId) {
+        if (edgeId < 0 || edgeId >= edgeCount || alive[edgeId]) {
+            throw new IllegalArgumentException("Edge is not deleted: " + edgeId);
+        }
+        alive[edgeId] = true;
+        place(edgeId);
+    }
+
+    public void updateWeight(int edgeId, int weight) {
+        checkEdge(edgeId);
+        if (!inTree[edgeId]) {
+            removeNonTree(edgeId);
+            weights[edgeId] = weight;
+            place(edgeId);
+        } else if (weight <= weights[edgeId]) {
+            totalWeight += weight - weights[edgeId];
+            weights[edgeId] = weight;
+            tree.setKey(vertices + edgeId, key(edgeId));
+        } else {
+            int level = levels[edgeId];
+            detach(edgeId);
+            weights[edgeId] = weight;
+            addNonTree(edgeId, 0);
+            replace(sources[edgeId], destinations[edgeId], level);
+        }
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public int getTreeEdgeCount() {
+        return treeEdgeCount;
+    }
+
+    public boolean isTreeEdge(int edgeId) {
+        checkEdge(edgeId);
+        return inTree[edgeId];
+    }
+
+    public boolean isConnected(int vertex1, int vertex2) {
+        checkVertex(vertex1);
+        checkVertex(vertex2);
+        return tree.connected(vertex1, vertex2);
+    }
+
+    public Edge getEdge(int edgeId) {
+        checkEdge(edgeId);
+        return new Edge(sources[edgeId], destinations[edgeId], weights[edgeId]);
+    }
+
+    public List<Edge> getEdges() {
+        List<Edge> result = new ArrayList<>();
+        for (int i = 0; i < edgeCount; i++) {
+            if (alive[i]) {
+                result.add(new Edge(sources[i], destinations[i], weights[i]));
+            }
+        }
+        return result;
+    }
+
+    public int getVertices() {
+        return vertices;
+    }
+
+    public int[] getTreeEdgeIds() {
+        int[] result = Arrays.copyOf(treeEdges, treeEdgeCount);
+        Arrays.sort(result);
+        return result;
+    }
+
+    public List<Edge> getMSTEdges() {
+        List<Edge> result = new ArrayList<>(treeEdgeCount);
+        for (int edgeId : getTreeEdgeIds()) {
+            result.add(new Edge(sources[edgeId], destinations[edgeId], weights[edgeId]));
+        }
+        return result;
+    }
+
+    private int register(int source, int destination, int weight) {
+        int edgeId = edgeCount++;
+        sources[edgeId] = source;
+        destinations[edgeId] = destination;
+        weights[edgeId] = weight;
+        alive[edgeId] = true;
+        return edgeId;
+    }
+
+    private void place(int edgeId) {
+        int source = sources[edgeId];
+        int destination = destinations[edgeId];
+
+        if (source == destination) {
+            return;
+        }
+
+        if (!tree.connected(source, destination)) {
+            attach(edgeId, 0);
+            return;
+        }
+
+        addNonTree(edgeId, 0);
+        int heaviest = tree.pathMax(source, destination) - vertices;
+        if (key(edgeId) < key(heaviest)) {
+            int level = levels[heaviest];
+            detach(heaviest);
+            addNonTree(heaviest, 0);
+            replace(sources[heaviest], destinations[heaviest], level);
+        }
+    }
+
+    private void replace(int source, int destination, int fromLevel) {
+        int best = -1;
+        int bestLevel = -1;
+        int crossingLevels = 0;
+
+        for (int level = fromLevel; level >= 0; level--) {
+            EulerTourForest forest = forests[level];
+            int small = smallerSide(level, source, destination);
+
+            while (forest.treeHasFlag(small)) {
+                int arc = forest.findFlagged(small);
+                int edgeId = forest.getPayload(arc);
+                forest.setFlag(arc, false);
+                levels[edgeId] = level + 1;
+                linkLevel(edgeId, level + 1, true);
+            }
+
+            while (forest.treeMinKey(small) != EulerTourForest.NO_KEY) {
+                int edgeId = forest.getPayload(forest.findMin(small));
+                if (forest.connected(small, vertexNodes[level][sources[edgeId]])
+                        && forest.connected(small, vertexNodes[level][destinations[edgeId]])) {
+                    removeNonTree(edgeId);
+                    addNonTree(edgeId, level + 1);
+                } else {
+                    crossingLevels |= 1 << level;
+                    if (best == -1 || key(edgeId) < key(best)) {
+                        best = edgeId;
+                        bestLevel = level;
+                    }
+                    break;
+                }
+            }
+        }
+
+        if (best == -1) {
+            return;
+        }
+
+        for (int level = fromLevel; level > bestLevel; level--) {
+            if ((crossingLevels & (1 << level)) != 0) {
+                lower(source, destination, level, bestLevel);
+            }
+        }
+        removeNonTree(best);
+        attach(best, bestLevel);
+    }
+
+    private void lower(int source, int destination, int level, int target) {
+        EulerTourForest forest = forests[level];
+        int small = smallerSide(level, source, destination);
+        while (forest.treeMinKey(small) != EulerTourForest.NO_KEY) {
+            int edgeId = forest.getPayload(forest.findMin(small));
+            boolean inside = forest.connected(small, vertexNodes[level][sources[edgeId]])
+                    && forest.connected(small, vertexNodes[level][destinations[edgeId]]);
+            removeNonTree(edgeId);
+            addNonTree(edgeId, inside ? level + 1 : target);
+        }
+    }
+
+    private int smallerSide(int level, int source, int destination) {
+        EulerTourForest forest = forests[level];
+        int a = vertexNodes[level][source];
+        int b = vertexNodes[level][destination];
+        return forest.treeSize(a) <= forest.treeSize(b) ? a : b;
+    }
+
+    private void attach(int edgeId, int level) {
+        int node = vertices + edgeId;
+        tree.setKey(node, key(edgeId));
+        tree.link(node, sources[edgeId]);
+        tree.link(destinations[edgeId], node);
+        inTree[edgeId] = true;
+        treeSlot[edgeId] = treeEdgeCount;
+        treeEdges[treeEdgeCount++] = edgeId;
+        totalWeight += weights[edgeId];
+
+        levels[edgeId] = level;
+        for (int i = 0; i <= level; i++) {
+            linkLevel(edgeId, i, i == level);
+        }
+    }
+
+    private void detach(int edgeId) {
+        int node = vertices + edgeId;
+        tree.cut(sources[edgeId], node);
+        tree.cut(node, destinations[edgeId]);
+        inTree[edgeId] = false;
+        int last = treeEdges[--treeEdgeCount];
+        treeEdges[treeSlot[edgeId]] = last;
+        treeSlot[last] = treeSlot[edgeId];
+        totalWeight -= weights[edgeId];
+
+        for (int i = 0; i <= levels[edgeId]; i++) {
+            int forward = arcNodes[i][2 * edgeId];
+            int backward = arcNodes[i][2 * edgeId + 1];
+            forests[i].cut(forward, backward);
+            forests[i].freeNode(forward);
+            forests[i].freeNode(backward);
+        }
+    }
+
+    private void linkLevel(int edgeId, int level, boolean flag) {
+        EulerTourForest forest = forest(level);
+        int forward = forest.newNode(false, edgeId, EulerTourForest.NO_KEY, flag);
+        int backward = forest.newNode(false, edgeId, EulerTourForest.NO_KEY, false);
+        forest.link(vertexNodes[level][sources[edgeId]], vertexNodes[level][destinations[edgeId]], forward, backward);
+        arcNodes[level][2 * edgeId] = forward;
+        arcNodes[level][2 * edgeId + 1] = backward;
+    }
+
+    private void addNonTree(int edgeId, int level) {
+        EulerTourForest forest = forest(level);
+        levels[edgeId] = level;
+        for (int side = 0; side < 2; side++) {
+            int vertex = side == 0 ? sources[edgeId] : destinations[edgeId];
+            int slot = forest.newNode(false, edgeId, key(edgeId), false);
+            forest.insertAfter(vertexNodes[level][vertex], slot);
+            slotNodes[2 * edgeId + side] = slot;
+        }
+    }
+
+    private void removeNonTree(int edgeId) {
+        if (sources[edgeId] == destinations[edgeId]) {
+            return;
+        }
+        EulerTourForest forest = forests[levels[edgeId]];
+        for (int side = 0; side < 2; side++) {
+            int slot = slotNodes[2 * edgeId + side];
+            forest.remove(slot);
+            forest.freeNode(slot);
+        }
+    }
+
+    private EulerTourForest forest(int level) {
+        if (forests[level] == null) {
+            EulerTourForest forest = new EulerTourForest(3 * vertices);
+            vertexNodes[level] = new int[vertices];
+            for (int vertex = 0; vertex < vertices; vertex++) {
+                vertexNodes[level][vertex] = forest.newNode(true, vertex, EulerTourForest.NO_KEY, false);
+            }
+            arcNodes[level] = new int[2 * levels.length];
+            forests[level] = forest;
+        }
+        return forests[level];
+    }
+
+    private long key(int edgeId) {
+        return ((long) weights[edgeId] << 32) | edgeId;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > sources.length) {
+            int newCapacity = Math.max(capacity, sources.length * 2);
+            sources = Arrays.copyOf(sources, newCapacity);
+            destinations = Arrays.copyOf(destinations, newCapacity);
+            weights = Arrays.copyOf(weights, newCapacity);
+            alive = Arrays.copyOf(alive, newCapacity);
+            inTree = Arrays.copyOf(inTree, newCapacity);
+            treeSlot = Arrays.copyOf(treeSlot, newCapacity);
+            levels = Arrays.copyOf(levels, newCapacity);
+            slotNodes = Arrays.copyOf(slotNodes, 2 * newCapacity);
+            for (int level = 0; level < arcNodes.length; level++) {
+                if (arcNodes[level] != null) {
+                    arcNodes[level] = Arrays.copyOf(arcNodes[level], 2 * newCapacity);
+                }
+            }
+        }
+        tree.ensureCapacity(vertices + capacity);
+    }
+
+    private void checkVertex(int vertex) {
+        if (vertex < 0 || vertex >= vertices) {
+            throw new IllegalArgumentException("Vertex out of range: " + vertex);
+        }
+    }
+
+    private void checkEdge(int edgeId) {
+        if (edgeId < 0 || edgeId >= edgeCount || !alive[edgeId]) {
+            throw new IllegalArgumentException("Unknown edge id: " + edgeId);
+        }
+    }
+}
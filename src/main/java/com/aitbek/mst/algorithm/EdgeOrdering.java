@@ -0,0 +1,139 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.util.Arrays;
+
+public enum EdgeOrdering {
+    COMPARISON {
+        @Override
+        public int[] sort(PrimitiveGraph graph) {
+            int edgeCount = graph.getEdgeCount();
+            long[] keys = new long[edgeCount];
+            for (int i = 0; i < edgeCount; i++) {
+                keys[i] = ((long) graph.getWeight(i) << 32) | i;
+            }
+            Arrays.sort(keys);
+
+            int[] order = new int[edgeCount];
+            for (int i = 0; i < edgeCount; i++) {
+                order[i] = (int) keys[i];
+            }
+            return order;
+        }
+    },
+
+    COUNTING {
+        @Override
+        public int[] sort(PrimitiveGraph graph) {
+            int edgeCount = graph.getEdgeCount();
+            int[] offsetWeights = offsetWeights(graph);
+            long range = weightRange(offsetWeights);
+            if (range > MAX_COUNTING_RANGE) {
+                throw new IllegalArgumentException("Weight range too wide for counting sort: " + range);
+            }
+
+            int[] counts = new int[(int) range + 1];
+            for (int weight : offsetWeights) {
+                counts[weight + 1]++;
+            }
+            for (int i = 1; i < counts.length; i++) {
+                counts[i] += counts[i - 1];
+            }
+
+            int[] order = new int[edgeCount];
+            for (int i = 0; i < edgeCount; i++) {
+                order[counts[offsetWeights[i]]++] = i;
+            }
+            return order;
+        }
+    },
+
+    RADIX {
+        @Override
+        public int[] sort(PrimitiveGraph graph) {
+            int edgeCount = graph.getEdgeCount();
+            int[] offsetWeights = offsetWeights(graph);
+            long range = weightRange(offsetWeights);
+
+            int[] order = new int[edgeCount];
+            for (int i = 0; i < edgeCount; i++) {
+                order[i] = i;
+            }
+
+            int[] buffer = new int[edgeCount];
+            int[] counts = new int[BUCKETS + 1];
+            for (int shift = 0; shift < Integer.SIZE && (range - 1) >>> shift != 0; shift += RADIX_BITS) {
+                Arrays.fill(counts, 0);
+                for (int edgeId : order) {
+                    counts[((offsetWeights[edgeId] >>> shift) & (BUCKETS - 1)) + 1]++;
+                }
+                for (int i = 1; i < counts.length; i++) {
+                    counts[i] += counts[i - 1];
+                }
+                for (int edgeId : order) {
+                    buffer[counts[(offsetWeights[edgeId] >>> shift) & (BUCKETS - 1)]++] = edgeId;
+                }
+
+                int[] swap = order;
+                order = buffer;
+                buffer = swap;
+            }
+            return order;
+        }
+    },
+
+    AUTOMATIC {
+        @Override
+        public int[] sort(PrimitiveGraph graph) {
+            return choose(graph).sort(graph);
+        }
+    };
+
+    private static final int RADIX_BITS = 16;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+    private static final int MAX_COUNTING_RANGE = 1 << 20;
+    private static final int SMALL_EDGE_COUNT = 1 << 12;
+
+    public abstract int[] sort(PrimitiveGraph graph);
+
+    public static EdgeOrdering choose(PrimitiveGraph graph) {
+        int edgeCount = graph.getEdgeCount();
+        if (edgeCount < SMALL_EDGE_COUNT) {
+            return COMPARISON;
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < edgeCount; i++) {
+            int weight = graph.getWeight(i);
+            min = Math.min(min, weight);
+            max = Math.max(max, weight);
+        }
+
+        long range = (long) max - min + 1;
+        return range <= Math.min(MAX_COUNTING_RANGE, Math.max(BUCKETS, edgeCount)) ? COUNTING : RADIX;
+    }
+
+    private static int[] offsetWeights(PrimitiveGraph graph) {
+        int edgeCount = graph.getEdgeCount();
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < edgeCount; i++) {
+            min = Math.min(min, graph.getWeight(i));
+        }
+
+        int[] offsetWeights = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            offsetWeights[i] = graph.getWeight(i) - min;
+        }
+        return offsetWeights;
+    }
+
+    private static long weightRange(int[] offsetWeights) {
+        long max = -1;
+        for (int weight : offsetWeights) {
+            max = Math.max(max, Integer.toUnsignedLong(weight));
+        }
+        return max + 1;
+    }
+}
@@ -0,0 +1,287 @@
+package com.aitbek.mst.algorithm;
+
+import java.util.Arrays;
+
+final class EulerTourForest {
+    static final long NO_KEY = Long.MAX_VALUE;
+
+    private int[] left;
+    private int[] right;
+    private int[] parent;
+    private int[] vertexCount;
+    private int[] flagCount;
+    private boolean[] vertex;
+    private boolean[] flagged;
+    private long[] key;
+    private long[] minKey;
+    private int[] payload;
+    private int size;
+    private int free = -1;
+
+    EulerTourForest(int capacity) {
+        int initial = Math.max(capacity, 16);
+        left = new int[initial];
+        right = new int[initial];
+        parent = new int[initial];
+        vertexCount = new int[initial];
+        flagCount = new int[initial];
+        vertex = new boolean[initial];
+        flagged = new boolean[initial];
+        key = new long[initial];
+        minKey = new long[initial];
+        payload = new int[initial];
+    }
+
+    int newNode(boolean isVertex, int value, long nodeKey, boolean flag) {
+        int node;
+        if (free != -1) {
+            node = free;
+            free = payload[node];
+        } else {
+            if (size == left.length) {
+                grow();
+            }
+            node = size++;
+        }
+        left[node] = -1;
+        right[node] = -1;
+        parent[node] = -1;
+        vertex[node] = isVertex;
+        flagged[node] = flag;
+        key[node] = nodeKey;
+        payload[node] = value;
+        update(node);
+        return node;
+    }
+
+    void freeNode(int node) {
+        payload[node] = free;
+        free = node;
+    }
+
+    int getPayload(int node) {
+        return payload[node];
+    }
+
+    void setFlag(int node, boolean flag) {
+        splay(node);
+        flagged[node] = flag;
+        update(node);
+    }
+
+    boolean connected(int a, int b) {
+        splay(a);
+        splay(b);
+        return a == b || parent[a] != -1;
+    }
+
+    int treeSize(int node) {
+        splay(node);
+        return vertexCount[node];
+    }
+
+    long treeMinKey(int node) {
+        splay(node);
+        return minKey[node];
+    }
+
+    boolean treeHasFlag(int node) {
+        splay(node);
+        return flagCount[node] > 0;
+    }
+
+    int findFlagged(int node) {
+        splay(node);
+        int current = node;
+        while (true) {
+            int child = left[current];
+            if (child != -1 && flagCount[child] > 0) {
+                current = child;
+            } else if (flagged[current]) {
+                break;
+            } else {
+                current = right[current];
+            }
+        }
+        splay(current);
+        return current;
+    }
+
+    int findMin(int node) {
+        splay(node);
+        long target = minKey[node];
+        int current = node;
+        while (true) {
+            int child = left[current];
+            if (child != -1 && minKey[child] == target) {
+                current = child;
+            } else if (key[current] == target) {
+                break;
+            } else {
+                current = right[current];
+            }
+        }
+        splay(current);
+        return current;
+    }
+
+    void link(int source, int destination, int forward, int backward) {
+        reroot(source);
+        reroot(destination);
+        join(join(join(source, forward), destination), backward);
+    }
+
+    void cut(int forward, int backward) {
+        int first = forward;
+        int second = backward;
+        int before = splitBefore(forward);
+        if (before != -1 && connected(backward, before)) {
+            join(before, forward);
+            first = backward;
+            second = forward;
+            before = splitBefore(backward);
+        }
+        int after = splitAfter(second);
+        splitAfter(first);
+        splitBefore(second);
+        join(before, after);
+    }
+
+    void insertAfter(int anchor, int node) {
+        int after = splitAfter(anchor);
+        join(join(anchor, node), after);
+    }
+
+    void remove(int node) {
+        int before = splitBefore(node);
+        int after = splitAfter(node);
+        join(before, after);
+    }
+
+    private void reroot(int node) {
+        join(node, splitBefore(node));
+    }
+
+    private int splitBefore(int node) {
+        splay(node);
+        int before = left[node];
+        if (before != -1) {
+            parent[before] = -1;
+            left[node] = -1;
+            update(node);
+        }
+        return before;
+    }
+
+    private int splitAfter(int node) {
+        splay(node);
+        int after = right[node];
+        if (after != -1) {
+            parent[after] = -1;
+            right[node] = -1;
+            update(node);
+        }
+        return after;
+    }
+
+    private int join(int a, int b) {
+        if (a == -1) {
+            if (b != -1) {
+                splay(b);
+            }
+            return b;
+        }
+        splay(a);
+        if (b == -1) {
+            return a;
+        }
+        int last = a;
+        while (right[last] != -1) {
+            last = right[last];
+        }
+        splay(last);
+        splay(b);
+        right[last] = b;
+        parent[b] = last;
+        update(last);
+        return last;
+    }
+
+    private void update(int node) {
+        int l = left[node];
+        int r = right[node];
+        int vertices = vertex[node] ? 1 : 0;
+        int flags = flagged[node] ? 1 : 0;
+        long min = key[node];
+        if (l != -1) {
+            vertices += vertexCount[l];
+            flags += flagCount[l];
+            min = Math.min(min, minKey[l]);
+        }
+        if (r != -1) {
+            vertices += vertexCount[r];
+            flags += flagCount[r];
+            min = Math.min(min, minKey[r]);
+        }
+        vertexCount[node] = vertices;
+        flagCount[node] = flags;
+        minKey[node] = min;
+    }
+
+    private void rotate(int node) {
+        int up = parent[node];
+        int grand = parent[up];
+
+        if (left[up] == node) {
+            left[up] = right[node];
+            if (right[node] != -1) {
+                parent[right[node]] = up;
+            }
+            right[node] = up;
+        } else {
+            right[up] = left[node];
+            if (left[node] != -1) {
+                parent[left[node]] = up;
+            }
+            left[node] = up;
+        }
+
+        parent[up] = node;
+        parent[node] = grand;
+        if (grand != -1) {
+            if (left[grand] == up) {
+                left[grand] = node;
+            } else {
+                right[grand] = node;
+            }
+        }
+
+        update(up);
+        update(node);
+    }
+
+    private void splay(int node) {
+        while (parent[node] != -1) {
+            int up = parent[node];
+            int grand = parent[up];
+            if (grand != -1) {
+                rotate((left[grand] == up) == (left[up] == node) ? up : node);
+            }
+            rotate(node);
+        }
+    }
+
+    private void grow() {
+        int capacity = left.length * 2;
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        vertexCount = Arrays.copyOf(vertexCount, capacity);
+        flagCount = Arrays.copyOf(flagCount, capacity);
+        vertex = Arrays.copyOf(vertex, capacity);
+        flagged = Arrays.copyOf(flagged, capacity);
+        key = Arrays.copyOf(key, capacity);
+        minKey = Arrays.copyOf(minKey, capacity);
+        payload = Arrays.copyOf(payload, capacity);
+    }
+}
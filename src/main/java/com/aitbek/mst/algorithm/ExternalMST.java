@@ -0,0 +1,213 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.io.BinaryGraphFormat;
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+public class ExternalMST {
+    private static final int RECORD_BYTES = Long.BYTES + Integer.BYTES * 2;
+    private static final int MIN_BUFFER_BYTES = 1 << 13;
+    private static final int MAX_BUFFER_BYTES = 1 << 20;
+    private static final int MAX_FAN_IN = 64;
+
+    private final long memoryBudgetBytes;
+    private final Path tempDirectory;
+    private final int fanIn;
+    private int lastRunCount;
+    private int lastMergePassCount;
+
+    public ExternalMST(long memoryBudgetBytes, Path tempDirectory) {
+        if (memoryBudgetBytes < 3L * RECORD_BYTES) {
+            throw new IllegalArgumentException("Memory budget too small: " + memoryBudgetBytes);
+        }
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.tempDirectory = tempDirectory;
+        this.fanIn = (int) Math.max(2, Math.min(MAX_FAN_IN, memoryBudgetBytes / MIN_BUFFER_BYTES - 1));
+    }
+
+    public int[] buildMST(PrimitiveGraph graph, Path output) throws IOException {
+        int[] mst = buildMST(graph);
+        BinaryGraphFormat.write(output, graph, mst);
+        return mst;
+    }
+
+    public int[] buildMST(PrimitiveGraph graph) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try {
+            writeSortedRuns(graph, runs);
+            lastRunCount = runs.size();
+            lastMergePassCount = 1;
+            while (runs.size() > fanIn) {
+                mergePass(runs);
+                lastMergePassCount++;
+            }
+            return mergeIntoTree(graph.getVertices(), runs);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    public int getLastRunCount() {
+        return lastRunCount;
+    }
+
+    public int getLastMergePassCount() {
+        return lastMergePassCount;
+    }
+
+    public int getFanIn() {
+        return fanIn;
+    }
+
+    private void writeSortedRuns(PrimitiveGraph graph, List<Path> runs) throws IOException {
+        int edgeCount = graph.getEdgeCount();
+        int bufferBytes = bufferBytes();
+        int runCapacity = (int) Math.min(edgeCount, (memoryBudgetBytes - bufferBytes) / Long.BYTES);
+        long[] keys = new long[runCapacity];
+
+        for (int start = 0; start < edgeCount; start += runCapacity) {
+            int length = Math.min(runCapacity, edgeCount - start);
+            for (int i = 0; i < length; i++) {
+                int edgeId = start + i;
+                keys[i] = ((long) graph.getWeight(edgeId) << 32) | edgeId;
+            }
+            Arrays.sort(keys, 0, length);
+
+            Path run = Files.createTempFile(tempDirectory, "mst-run-", ".bin");
+            runs.add(run);
+            try (DataOutputStream out = newRunWriter(run, bufferBytes)) {
+                for (int i = 0; i < length; i++) {
+                    int edgeId = (int) keys[i];
+                    out.writeLong(keys[i]);
+                    out.writeInt(graph.getSource(edgeId));
+                    out.writeInt(graph.getDestination(edgeId));
+                }
+            }
+        }
+    }
+
+    private void mergePass(List<Path> runs) throws IOException {
+        List<Path> merged = new ArrayList<>((runs.size() + fanIn - 1) / fanIn);
+        try {
+            for (int start = 0; start < runs.size(); start += fanIn) {
+                Path run = Files.createTempFile(tempDirectory, "mst-run-", ".bin");
+                merged.add(run);
+                try (DataOutputStream out = newRunWriter(run, bufferBytes())) {
+                    merge(runs.subList(start, Math.min(start + fanIn, runs.size())), (key, source, destination) -> {
+                        out.writeLong(key);
+                        out.writeInt(source);
+                        out.writeInt(destination);
+                        return true;
+                    });
+                }
+            }
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+            runs.clear();
+            runs.addAll(merged);
+        }
+    }
+
+    private int[] mergeIntoTree(int vertices, List<Path> runs) throws IOException {
+        UnionFind uf = new UnionFind(vertices);
+        int[] mst = new int[Math.max(vertices - 1, 0)];
+        int[] count = new int[1];
+
+        merge(runs, (key, source, destination) -> {
+            if (count[0] == mst.length) {
+                return false;
+            }
+            if (uf.union(source, destination)) {
+                mst[count[0]++] = (int) key;
+            }
+            return true;
+        });
+
+        return count[0] == mst.length ? mst : Arrays.copyOf(mst, count[0]);
+    }
+
+    private void merge(List<Path> runs, RecordSink sink) throws IOException {
+        PriorityQueue<RunReader> queue = new PriorityQueue<>(Comparator.comparingLong(reader -> reader.key));
+        List<RunReader> readers = new ArrayList<>(runs.size());
+        int bufferBytes = bufferBytes();
+        try {
+            for (Path run : runs) {
+                RunReader reader = new RunReader(run, bufferBytes);
+                readers.add(reader);
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                RunReader reader = queue.poll();
+                if (!sink.accept(reader.key, reader.source, reader.destination)) {
+                    break;
+                }
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private int bufferBytes() {
+        long share = memoryBudgetBytes / (fanIn + 1);
+        return (int) Math.max(RECORD_BYTES, Math.min(MAX_BUFFER_BYTES, share));
+    }
+
+    private static DataOutputStream newRunWriter(Path run, int bufferBytes) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), bufferBytes));
+    }
+
+    private interface RecordSink {
+        boolean accept(long key, int source, int destination) throws IOException;
+    }
+
+    private static final class RunReader {
+        private final DataInputStream in;
+        private long key;
+        private int source;
+        private int destination;
+
+        RunReader(Path run, int bufferBytes) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), bufferBytes));
+        }
+
+        boolean advance() throws IOException {
+            try {
+                key = in.readLong();
+            } catch (EOFException e) {
+                return false;
+            }
+            source = in.readInt();
+            destination = in.readInt();
+            return true;
+        }
+
+        void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.aitbek.mst.algorithm;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+public class IndexedDaryHeap {
+    private final int arity;
+    private final int[] heap;
+    private final int[] position;
+    private final long[] priority;
+    private int size;
+
+    public IndexedDaryHeap(int capacity) {
+        this(capacity, 4);
+    }
+
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2");
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.priority = new long[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int item) {
+        return position[item] >= 0;
+    }
+
+    public long getPriority(int item) {
+        return priority[item];
+    }
+
+    public void insert(int item, long value) {
+        if (contains(item)) {
+            throw new IllegalArgumentException("Item already in heap: " + item);
+        }
+        priority[item] = value;
+        heap[size] = item;
+        position[item] = size;
+        siftUp(size++);
+    }
+
+    public boolean decreaseKey(int item, long value) {
+        if (value >= priority[item]) {
+            return false;
+        }
+        priority[item] = value;
+        siftUp(position[item]);
+        return true;
+    }
+
+    public int peekMin() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    public int pollMin() {
+        int min = peekMin();
+        position[min] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        int item = heap[index];
+        long value = priority[item];
+        while (index > 0) {
+            int parentIndex = (index - 1) / arity;
+            int parent = heap[parentIndex];
+            if (priority[parent] <= value) {
+                break;
+            }
+            heap[index] = parent;
+            position[parent] = index;
+            index = parentIndex;
+        }
+        heap[index] = item;
+        position[item] = index;
+    }
+
+    private void siftDown(int index) {
+        int item = heap[index];
+        long value = priority[item];
+        while (true) {
+            int first = index * arity + 1;
+            if (first >= size) {
+                break;
+            }
+
+            int best = first;
+            int last = Math.min(first + arity, size);
+            for (int child = first + 1; child < last; child++) {
+                if (priority[heap[child]] < priority[heap[best]]) {
+                    best = child;
+                }
+            }
+
+            if (priority[heap[best]] >= value) {
+                break;
+            }
+            heap[index] = heap[best];
+            position[heap[index]] = index;
+            index = best;
+        }
+        heap[index] = item;
+        position[item] = index;
+    }
+}
@@ -0,0 +1,149 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+
+public class KBestSpanningTrees implements Iterator<SpanningTree> {
+    private final PrimitiveGraph graph;
+    private final int limit;
+    private final TreeSet<Subspace> queue;
+    private Subspace first;
+    private int produced;
+    private long sequence;
+
+    public KBestSpanningTrees(PrimitiveGraph graph, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        this.graph = graph;
+        this.limit = limit;
+        this.queue = new TreeSet<>(Comparator.comparingLong((Subspace s) -> s.nextWeight)
+                .thenComparingLong(s -> s.sequence));
+
+        int[] mst = MSTAlgorithm.buildMST(graph);
+        this.first = new Subspace(null, null, mst, MSTAlgorithm.calculateMSTWeight(graph, mst));
+    }
+
+    public static SpanningTree secondBest(PrimitiveGraph graph) {
+        KBestSpanningTrees trees = new KBestSpanningTrees(graph, 2);
+        trees.next();
+        return trees.hasNext() ? trees.next() : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return produced < limit && (first != null || !queue.isEmpty());
+    }
+
+    @Override
+    public SpanningTree next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        produced++;
+
+        if (first != null) {
+            Subspace root = first;
+            first = null;
+            offer(root);
+            return new SpanningTree(graph, root.tree, root.weight);
+        }
+
+        Subspace space = queue.pollFirst();
+        int[] swapped = space.tree.clone();
+        for (int i = 0; i < swapped.length; i++) {
+            if (swapped[i] == space.removed) {
+                swapped[i] = space.added;
+            }
+        }
+
+        offer(new Subspace(new IdChain(space.removed, space.included), space.excluded, space.tree, space.weight));
+        offer(new Subspace(space.included, new IdChain(space.removed, space.excluded), swapped, space.nextWeight));
+        return new SpanningTree(graph, swapped, space.nextWeight);
+    }
+
+    private void offer(Subspace space) {
+        int remaining = limit - produced;
+        if (remaining <= 0 || !findBestSwap(space)) {
+            return;
+        }
+
+        space.sequence = sequence++;
+        queue.add(space);
+        while (queue.size() > remaining) {
+            queue.pollLast();
+        }
+    }
+
+    private boolean findBestSwap(Subspace space) {
+        int edgeCount = graph.getEdgeCount();
+        boolean[] fixed = new boolean[edgeCount];
+        boolean[] unavailable = new boolean[edgeCount];
+        for (IdChain chain = space.included; chain != null; chain = chain.next) {
+            fixed[chain.id] = true;
+        }
+        for (IdChain chain = space.excluded; chain != null; chain = chain.next) {
+            unavailable[chain.id] = true;
+        }
+        for (int edgeId : space.tree) {
+            unavailable[edgeId] = true;
+        }
+
+        PathMaxIndex index = new PathMaxIndex(graph, space.tree, fixed);
+        long bestDelta = Long.MAX_VALUE;
+        for (int edgeId = 0; edgeId < edgeCount; edgeId++) {
+            if (unavailable[edgeId]) {
+                continue;
+            }
+            int heaviest = index.query(graph.getSource(edgeId), graph.getDestination(edgeId));
+            if (heaviest < 0) {
+                continue;
+            }
+
+            long delta = (long) graph.getWeight(edgeId) - graph.getWeight(heaviest);
+            if (delta < bestDelta) {
+                bestDelta = delta;
+                space.removed = heaviest;
+                space.added = edgeId;
+            }
+        }
+
+        if (bestDelta == Long.MAX_VALUE) {
+            return false;
+        }
+        space.nextWeight = space.weight + bestDelta;
+        return true;
+    }
+
+    private static final class IdChain {
+        private final int id;
+        private final IdChain next;
+
+        IdChain(int id, IdChain next) {
+            this.id = id;
+            this.next = next;
+        }
+    }
+
+    private static final class Subspace {
+        private final IdChain included;
+        private final IdChain excluded;
+        private final int[] tree;
+        private final long weight;
+        private int removed;
+        private int added;
+        private long nextWeight;
+        private long sequence;
+
+        Subspace(IdChain included, IdChain excluded, int[] tree, long weight) {
+            this.included = included;
+            this.excluded = excluded;
+            this.tree = tree;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.aitbek.mst.algorithm;
+
+import java.util.Arrays;
+
+public class LinkCutTree {
+    private int[] left;
+    private int[] right;
+    private int[] parent;
+    private int[] maxNode;
+    private long[] key;
+    private boolean[] reversed;
+    private int[] pending;
+
+    public LinkCutTree(int capacity) {
+        left = new int[0];
+        right = new int[0];
+        parent = new int[0];
+        maxNode = new int[0];
+        key = new long[0];
+        reversed = new boolean[0];
+        pending = new int[0];
+        ensureCapacity(capacity);
+    }
+
+    public void ensureCapacity(int capacity) {
+        int oldCapacity = left.length;
+        if (capacity <= oldCapacity) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, oldCapacity * 2);
+        left = Arrays.copyOf(left, newCapacity);
+        right = Arrays.copyOf(right, newCapacity);
+        parent = Arrays.copyOf(parent, newCapacity);
+        maxNode = Arrays.copyOf(maxNode, newCapacity);
+        key = Arrays.copyOf(key, newCapacity);
+        reversed = Arrays.copyOf(reversed, newCapacity);
+        pending = new int[newCapacity];
+
+        for (int i = oldCapacity; i < newCapacity; i++) {
+            left[i] = -1;
+            right[i] = -1;
+            parent[i] = -1;
+            maxNode[i] = i;
+            key[i] = Long.MIN_VALUE;
+        }
+    }
+
+    public int capacity() {
+        return left.length;
+    }
+
+    public long getKey(int node) {
+        return key[node];
+    }
+
+    public void setKey(int node, long value) {
+        access(node);
+        key[node] = value;
+        update(node);
+    }
+
+    public void link(int child, int node) {
+        makeRoot(child);
+        parent[child] = node;
+    }
+
+    public void cut(int a, int b) {
+        makeRoot(a);
+        access(b);
+        int adjacent = left[b];
+        if (adjacent != -1) {
+            parent[adjacent] = -1;
+            left[b] = -1;
+            update(b);
+        }
+    }
+
+    public boolean connected(int a, int b) {
+        return a == b || findRoot(a) == findRoot(b);
+    }
+
+    public int findRoot(int node) {
+        access(node);
+        int root = node;
+        push(root);
+        while (left[root] != -1) {
+            root = left[root];
+            push(root);
+        }
+        splay(root);
+        return root;
+    }
+
+    public int pathMax(int a, int b) {
+        makeRoot(a);
+        access(b);
+        return maxNode[b];
+    }
+
+    private void makeRoot(int node) {
+        access(node);
+        reversed[node] ^= true;
+    }
+
+    private void access(int node) {
+        int last = -1;
+        for (int current = node; current != -1; current = parent[current]) {
+            splay(current);
+            right[current] = last;
+            update(current);
+            last = current;
+        }
+        splay(node);
+    }
+
+    private boolean isRoot(int node) {
+        int up = parent[node];
+        return up == -1 || (left[up] != node && right[up] != node);
+    }
+
+    private void push(int node) {
+        if (reversed[node]) {
+            int swap = left[node];
+            left[node] = right[node];
+            right[node] = swap;
+            if (left[node] != -1) {
+                reversed[left[node]] ^= true;
+            }
+            if (right[node] != -1) {
+                reversed[right[node]] ^= true;
+            }
+            reversed[node] = false;
+        }
+    }
+
+    private void update(int node) {
+        int best = node;
+        if (left[node] != -1 && key[maxNode[left[node]]] > key[best]) {
+            best = maxNode[left[node]];
+        }
+        if (right[node] != -1 && key[maxNode[right[node]]] > key[best]) {
+            best = maxNode[right[node]];
+        }
+        maxNode[node] = best;
+    }
+
+    private void rotate(int node) {
+        int up = parent[node];
+        int grand = parent[up];
+        boolean upIsRoot = isRoot(up);
+
+        if (left[up] == node) {
+            left[up] = right[node];
+            if (right[node] != -1) {
+                parent[right[node]] = up;
+            }
+            right[node] = up;
+        } else {
+            right[up] = left[node];
+            if (left[node] != -1) {
+                parent[left[node]] = up;
+            }
+            left[node] = up;
+        }
+
+        parent[up] = node;
+        parent[node] = grand;
+        if (!upIsRoot) {
+            if (left[grand] == up) {
+                left[grand] = node;
+            } else {
+                right[grand] = node;
+            }
+        }
+
+        update(up);
+        update(node);
+    }
+
+    private void splay(int node) {
+        int size = 0;
+        pending[size++] = node;
+        for (int current = node; !isRoot(current); current = parent[current]) {
+            pending[size++] = parent[current];
+        }
+        while (size > 0) {
+            push(pending[--size]);
+        }
+
+        while (!isRoot(node)) {
+            int up = parent[node];
+            if (!isRoot(up)) {
+                int grand = parent[up];
+                if ((left[grand] == up) == (left[up] == node)) {
+                    rotate(up);
+                } else {
+                    rotate(node);
+                }
+            }
+            rotate(node);
+        }
+    }
+}
@@ -2,85 +2,321 @@ package com.aitbek.mst.algorithm;
 
 import com.aitbek.mst.model.Edge;
 import com.aitbek.mst.model.Graph;
+import com.aitbek.mst.model.PrimitiveGraph;
+import com.aitbek.mst.offheap.OffHeapAccess;
+import com.aitbek.mst.offheap.OffHeapGraph;
+import com.aitbek.mst.offheap.OffHeapLongArray;
 
 import java.util.*;
 
 public class MSTAlgorithm {
     private final Graph graph;
+    private final UnionFind unionFind;
     private List<Edge> mstEdges;
+    private RootedTree rootedTree;
+    private ReplacementIndex replacementIndex;
+    private int[] treeEdgeIds;
+    private int[] treePosition;
+    private LinkCutTree pathIndex;
+    private int indexedEdgeCount;
 
     public MSTAlgorithm(Graph graph) {
         this.graph = graph;
+        this.unionFind = new UnionFind(graph.getVertices());
         this.mstEdges = new ArrayList<>();
+        this.treeEdgeIds = new int[Math.max(graph.getVertices() - 1, 0)];
     }
 
     public List<Edge> buildMST() {
-        List<Edge> edges = graph.getEdges();
-        Collections.sort(edges);
-
-        UnionFind uf = new UnionFind(graph.getVertices());
+        UnionFind uf = unionFind;
+        uf.reset();
         mstEdges = new ArrayList<>();
+        rootedTree = null;
+        replacementIndex = null;
+        pathIndex = null;
+        treePosition = null;
+        indexedEdgeCount = graph.getEdgeCount();
 
-        for (Edge edge : edges) {
-            if (uf.union(edge.getSource(), edge.getDestination())) {
-                mstEdges.add(edge);
+        int limit = graph.getVertices() - 1;
+        for (int rank = 0; rank < graph.getEdgeCount() && mstEdges.size() < limit; rank++) {
+            int edgeId = graph.getSortedEdgeId(rank);
+            if (uf.union(graph.getSource(edgeId), graph.getDestination(edgeId))) {
+                treeEdgeIds[mstEdges.size()] = edgeId;
+                mstEdges.add(graph.toEdge(edgeId));
             }
+        }
+
+        return new ArrayList<>(mstEdges);
+    }
 
-            if (mstEdges.size() == graph.getVertices() - 1) {
-                break;
+    public boolean addEdge(int source, int destination, int weight) {
+        int edgeId = graph.getEdgeCount();
+        graph.addEdge(source, destination, weight);
+        insertNewEdges();
+        return treePosition[edgeId] >= 0;
+    }
+
+    public int insertNewEdges() {
+        int edgeCount = graph.getEdgeCount();
+        if (indexedEdgeCount == edgeCount) {
+            return 0;
+        }
+
+        ensurePathIndex();
+        int entered = 0;
+        for (int edgeId = indexedEdgeCount; edgeId < edgeCount; edgeId++) {
+            if (insertIntoTree(edgeId)) {
+                entered++;
             }
         }
+        indexedEdgeCount = edgeCount;
+        replacementIndex = null;
+        if (entered > 0) {
+            rootedTree = null;
+        }
+        return entered;
+    }
 
-        return new ArrayList<>(mstEdges);
+    private void ensurePathIndex() {
+        int vertices = graph.getVertices();
+        int edgeCount = graph.getEdgeCount();
+
+        if (pathIndex == null) {
+            pathIndex = new LinkCutTree(vertices + edgeCount);
+            treePosition = new int[Math.max(edgeCount, 16)];
+            Arrays.fill(treePosition, -1);
+            for (int position = 0; position < mstEdges.size(); position++) {
+                treePosition[treeEdgeIds[position]] = position;
+                linkTreeEdge(treeEdgeIds[position]);
+            }
+        }
+
+        pathIndex.ensureCapacity(vertices + edgeCount);
+        if (treePosition.length < edgeCount) {
+            int oldLength = treePosition.length;
+            treePosition = Arrays.copyOf(treePosition, Math.max(edgeCount, oldLength * 2));
+            Arrays.fill(treePosition, oldLength, treePosition.length, -1);
+        }
     }
 
-    public List<Set<Integer>> getComponentsAfterRemoval(Edge removedEdge) {
-        UnionFind uf = new UnionFind(graph.getVertices());
+    private boolean insertIntoTree(int edgeId) {
+        int source = graph.getSource(edgeId);
+        int destination = graph.getDestination(edgeId);
+        if (source == destination) {
+            return false;
+        }
 
-        for (Edge edge : mstEdges) {
-            if (!edge.equals(removedEdge)) {
-                uf.union(edge.getSource(), edge.getDestination());
+        int position;
+        if (!pathIndex.connected(source, destination)) {
+            position = mstEdges.size();
+            mstEdges.add(graph.toEdge(edgeId));
+        } else {
+            int heaviest = pathIndex.pathMax(source, destination) - graph.getVertices();
+            if (sortKey(edgeId) > sortKey(heaviest)) {
+                return false;
+            }
+            position = treePosition[heaviest];
+            cutTreeEdge(heaviest);
+            treePosition[heaviest] = -1;
+            mstEdges.set(position, graph.toEdge(edgeId));
+        }
+
+        treeEdgeIds[position] = edgeId;
+        treePosition[edgeId] = position;
+        linkTreeEdge(edgeId);
+        return true;
+    }
+
+    private void linkTreeEdge(int edgeId) {
+        int node = graph.getVertices() + edgeId;
+        pathIndex.setKey(node, sortKey(edgeId));
+        pathIndex.link(node, graph.getSource(edgeId));
+        pathIndex.link(graph.getDestination(edgeId), node);
+    }
+
+    private void cutTreeEdge(int edgeId) {
+        int node = graph.getVertices() + edgeId;
+        pathIndex.cut(graph.getSource(edgeId), node);
+        pathIndex.cut(node, graph.getDestination(edgeId));
+    }
+
+    private long sortKey(int edgeId) {
+        return ((long) graph.getWeight(edgeId) << 32) | edgeId;
+    }
+
+    public static int[] buildMST(PrimitiveGraph graph) {
+        return buildMST(graph, EdgeOrdering.AUTOMATIC);
+    }
+
+    public static int[] buildMST(PrimitiveGraph graph, EdgeOrdering ordering) {
+        return buildMST(graph, ordering.sort(graph));
+    }
+
+    public static int[] buildMST(PrimitiveGraph graph, int[] order) {
+        int vertices = graph.getVertices();
+        UnionFind uf = new UnionFind(vertices);
+        int[] mst = new int[Math.max(vertices - 1, 0)];
+        int count = 0;
+
+        for (int i = 0; i < order.length && count < mst.length; i++) {
+            int edgeId = order[i];
+            if (uf.union(graph.getSource(edgeId), graph.getDestination(edgeId))) {
+                mst[count++] = edgeId;
+            }
+        }
+
+        return count == mst.length ? mst : Arrays.copyOf(mst, count);
+    }
+
+    public static OffHeapLongArray buildMST(OffHeapGraph graph) {
+        int vertices = graph.getVertices();
+        UnionFind uf = new UnionFind(vertices);
+        OffHeapLongArray mst = OffHeapLongArray.allocate(Math.max(vertices - 1, 0));
+        long count = 0;
+
+        try (OffHeapAccess access = graph.open();
+             OffHeapLongArray order = graph.sortEdgeIds()) {
+            for (long i = 0; i < order.length() && count < mst.length(); i++) {
+                long edgeId = order.get(i);
+                if (uf.union(graph.getSource(edgeId), graph.getDestination(edgeId))) {
+                    mst.set(count++, edgeId);
+                }
             }
+        } catch (RuntimeException e) {
+            mst.close();
+            throw e;
         }
 
-        Map<Integer, Set<Integer>> componentMap = new HashMap<>();
-        for (int i = 0; i < graph.getVertices(); i++) {
-            int root = uf.find(i);
-            componentMap.putIfAbsent(root, new HashSet<>());
-            componentMap.get(root).add(i);
+        if (count == mst.length()) {
+            return mst;
+        }
+        try (OffHeapLongArray full = mst) {
+            return full.copyOf(count);
         }
+    }
+
+    public static long calculateMSTWeight(OffHeapGraph graph, OffHeapLongArray edgeIds) {
+        long total = 0;
+        try (OffHeapAccess graphAccess = graph.open();
+             OffHeapAccess idAccess = edgeIds.open()) {
+            for (long i = 0; i < edgeIds.length(); i++) {
+                total += graph.getWeight(edgeIds.get(i));
+            }
+        }
+        return total;
+    }
+
+    public static long calculateMSTWeight(PrimitiveGraph graph, int[] edgeIds) {
+        long total = 0;
+        for (int edgeId : edgeIds) {
+            total += graph.getWeight(edgeId);
+        }
+        return total;
+    }
+
+    public static SpanningForest buildSpanningForest(PrimitiveGraph graph) {
+        return SpanningForest.of(graph);
+    }
+
+    public List<Set<Integer>> getComponentsAfterRemoval(Edge removedEdge) {
+        RootedTree tree = getRootedTree();
+        List<Set<Integer>> components = new ArrayList<>();
+        int child = tree.childOf(removedEdge);
+
+        if (child < 0 && (!tree.contains(removedEdge.getSource()) || !tree.contains(removedEdge.getDestination()))) {
+            for (int entry = 0; entry < tree.getVertices(); entry = tree.getExit(tree.getVertexAt(entry))) {
+                components.add(collectVertices(tree, entry, tree.getExit(tree.getVertexAt(entry)), new HashSet<>()));
+            }
+            return components;
+        }
+        if (child < 0) {
+            int sourceRoot = tree.getRoot(removedEdge.getSource());
+            int destinationRoot = tree.getRoot(removedEdge.getDestination());
+            components.add(collectVertices(tree, tree.getEntry(sourceRoot), tree.getExit(sourceRoot), new HashSet<>()));
+            if (destinationRoot != sourceRoot) {
+                components.add(collectVertices(tree, tree.getEntry(destinationRoot), tree.getExit(destinationRoot), new HashSet<>()));
+            }
+            return components;
+        }
+
+        int root = tree.getRoot(child);
+        Set<Integer> childSide = collectVertices(tree, tree.getEntry(child), tree.getExit(child), new HashSet<>());
+        Set<Integer> parentSide = collectVertices(tree, tree.getEntry(root), tree.getEntry(child), new HashSet<>());
+        collectVertices(tree, tree.getExit(child), tree.getExit(root), parentSide);
 
-        return new ArrayList<>(componentMap.values());
+        components.add(childSide);
+        components.add(parentSide);
+        return components;
+    }
+
+    private static Set<Integer> collectVertices(RootedTree tree, int from, int to, Set<Integer> vertices) {
+        for (int i = from; i < to; i++) {
+            vertices.add(tree.getVertexAt(i));
+        }
+        return vertices;
     }
 
     public Edge findReplacementEdge(Edge removedEdge) {
-        List<Set<Integer>> components = getComponentsAfterRemoval(removedEdge);
+        TreeCut cut = getCut(removedEdge);
 
-        if (components.size() != 2) {
+        if (cut == null) {
             return null;
         }
 
-        Set<Integer> component1 = components.get(0);
-        Set<Integer> component2 = components.get(1);
+        int removedSource = removedEdge.getSource();
+        int removedDestination = removedEdge.getDestination();
+        int removedWeight = removedEdge.getWeight();
 
-        Edge bestReplacement = null;
-        int minWeight = Integer.MAX_VALUE;
-
-        for (Edge edge : graph.getEdges()) {
-            if (edge.equals(removedEdge)) {
+        for (int rank = 0; rank < graph.getEdgeCount(); rank++) {
+            int edgeId = graph.getSortedEdgeId(rank);
+            int source = graph.getSource(edgeId);
+            int destination = graph.getDestination(edgeId);
+            if (!cut.separates(source, destination)) {
                 continue;
             }
 
-            boolean connects = (component1.contains(edge.getSource()) && component2.contains(edge.getDestination())) ||
-                    (component2.contains(edge.getSource()) && component1.contains(edge.getDestination()));
-
-            if (connects && edge.getWeight() < minWeight) {
-                minWeight = edge.getWeight();
-                bestReplacement = edge;
+            boolean removed = graph.getWeight(edgeId) == removedWeight
+                    && (source == removedSource && destination == removedDestination
+                    || source == removedDestination && destination == removedSource);
+            if (!removed) {
+                return graph.toEdge(edgeId);
             }
         }
 
-        return bestReplacement;
+        return null;
+    }
+
+    public Map<Edge, Edge> findReplacementEdges(Collection<Edge> removedEdges) {
+        ReplacementIndex index = getReplacementIndex();
+        Map<Edge, Edge> replacements = new LinkedHashMap<>();
+
+        for (Edge edge : removedEdges) {
+            replacements.put(edge, index.getReplacement(edge));
+        }
+
+        return replacements;
+    }
+
+    public MultiEdgeRemoval removeEdges(Collection<Edge> removedEdges) {
+        return new MultiEdgeRemoval(graph, getRootedTree(), mstEdges, removedEdges);
+    }
+
+    public RootedTree getRootedTree() {
+        if (rootedTree == null) {
+            rootedTree = new RootedTree(graph.getVertices(), mstEdges);
+        }
+        return rootedTree;
+    }
+
+    public TreeCut getCut(Edge removedEdge) {
+        return getRootedTree().cut(removedEdge);
+    }
+
+    public ReplacementIndex getReplacementIndex() {
+        if (replacementIndex == null) {
+            replacementIndex = new ReplacementIndex(getRootedTree(), graph, graph.getSortedEdgeIds());
+        }
+        return replacementIndex;
     }
 
     public List<Edge> getMSTWithReplacement(Edge removedEdge, Edge replacementEdge) {
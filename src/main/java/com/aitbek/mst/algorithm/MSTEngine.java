@@ -0,0 +1,51 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.CompactGraph;
+
+public enum MSTEngine {
+    KRUSKAL {
+        @Override
+        public int[] buildMST(CompactGraph graph) {
+            return MSTAlgorithm.buildMST(graph);
+        }
+    },
+
+    PRIM {
+        @Override
+        public int[] buildMST(CompactGraph graph) {
+            return new PrimMST().buildMST(graph);
+        }
+    },
+
+    PARALLEL_KRUSKAL {
+        @Override
+        public int[] buildMST(CompactGraph graph) {
+            return new ParallelMST().buildMST(graph);
+        }
+    },
+
+    AUTOMATIC {
+        @Override
+        public int[] buildMST(CompactGraph graph) {
+            return select(graph).buildMST(graph);
+        }
+    };
+
+    private static final int PARALLEL_EDGE_THRESHOLD = 1 << 22;
+    private static final double DENSE_GRAPH_DENSITY = 0.1;
+
+    public abstract int[] buildMST(CompactGraph graph);
+
+    public static MSTEngine select(CompactGraph graph) {
+        return select(graph.getVertices(), graph.getEdgeCount(), Runtime.getRuntime().availableProcessors());
+    }
+
+    static MSTEngine select(int vertices, int edges, int processors) {
+        if (edges >= PARALLEL_EDGE_THRESHOLD && processors > 1) {
+            return PARALLEL_KRUSKAL;
+        }
+
+        double density = vertices < 2 ? 0 : 2.0 * edges / ((double) vertices * (vertices - 1));
+        return density >= DENSE_GRAPH_DENSITY ? PRIM : KRUSKAL;
+    }
+}
@@ -0,0 +1,239 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.Graph;
+
+import java.util.*;
+
+public final class MultiEdgeRemoval {
+    private final RootedTree tree;
+    private final List<Edge> removedTreeEdges;
+    private final List<Edge> replacementEdges;
+    private final List<Edge> newMST;
+    private final int[] fragmentRoots;
+    private final int[] segmentStarts;
+    private final int[] segmentLabels;
+    private final long weightDelta;
+
+    MultiEdgeRemoval(Graph graph, RootedTree tree, List<Edge> mst, Collection<Edge> removedEdges) {
+        this.tree = tree;
+
+        Set<Integer> children = new LinkedHashSet<>();
+        for (Edge edge : removedEdges) {
+            int child = tree.childOf(edge);
+            if (child >= 0) {
+                children.add(child);
+            }
+        }
+
+        List<Integer> roots = new ArrayList<>();
+        Map<Integer, Integer> rootFragment = new HashMap<>();
+        List<int[]> intervals = new ArrayList<>();
+        this.removedTreeEdges = new ArrayList<>(children.size());
+        for (int child : children) {
+            removedTreeEdges.add(tree.getParentEdge(child));
+            intervals.add(new int[]{tree.getEntry(child), tree.getExit(child), roots.size()});
+            roots.add(child);
+        }
+        for (int child : children) {
+            int root = tree.getRoot(child);
+            if (!rootFragment.containsKey(root)) {
+                rootFragment.put(root, roots.size());
+                intervals.add(new int[]{tree.getEntry(root), tree.getExit(root), roots.size()});
+                roots.add(root);
+            }
+        }
+        this.fragmentRoots = roots.stream().mapToInt(Integer::intValue).toArray();
+
+        intervals.sort((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(b[1], a[1]));
+        int[] starts = new int[intervals.size() * 2];
+        int[] labels = new int[intervals.size() * 2];
+        int segments = 0;
+        Deque<int[]> open = new ArrayDeque<>();
+        for (int i = 0; i <= intervals.size(); i++) {
+            int[] interval = i < intervals.size() ? intervals.get(i) : null;
+            while (!open.isEmpty() && (interval == null || open.peek()[1] <= interval[0])) {
+                int end = open.pop()[1];
+                segments = emit(starts, labels, segments, end, open.isEmpty() ? -1 : open.peek()[2]);
+            }
+            if (interval != null) {
+                segments = emit(starts, labels, segments, interval[0], interval[2]);
+                open.push(interval);
+            }
+        }
+        this.segmentStarts = Arrays.copyOf(starts, segments);
+        this.segmentLabels = Arrays.copyOf(labels, segments);
+
+        this.replacementEdges = new ArrayList<>();
+        long delta = 0;
+        int[] removedIds = removedEdgeIds(graph, removedEdges);
+        long[] candidates = crossingEdgeKeys(graph, removedIds);
+        Arrays.sort(candidates);
+        UnionFind fragments = new UnionFind(fragmentRoots.length);
+        int needed = removedTreeEdges.size();
+        for (int i = 0; i < candidates.length && replacementEdges.size() < needed; i++) {
+            int edgeId = (int) candidates[i];
+            if (fragments.union(getFragment(graph.getSource(edgeId)), getFragment(graph.getDestination(edgeId)))) {
+                Edge candidate = graph.toEdge(edgeId);
+                replacementEdges.add(candidate);
+                delta += candidate.getWeight();
+            }
+        }
+        for (Edge edge : removedTreeEdges) {
+            delta -= edge.getWeight();
+        }
+        this.weightDelta = delta;
+
+        Set<Edge> dropped = Collections.newSetFromMap(new IdentityHashMap<>());
+        dropped.addAll(removedTreeEdges);
+        this.newMST = new ArrayList<>(mst.size());
+        for (Edge edge : mst) {
+            if (!dropped.contains(edge)) {
+                newMST.add(edge);
+            }
+        }
+        newMST.addAll(replacementEdges);
+    }
+
+    private static int[] removedEdgeIds(Graph graph, Collection<Edge> removedEdges) {
+        int[] ids = new int[removedEdges.size()];
+        int count = 0;
+        for (Edge edge : removedEdges) {
+            int from = edge.getSource();
+            int to = edge.getDestination();
+            if (from < 0 || to < 0 || from >= graph.getVertices() || to >= graph.getVertices()) {
+                continue;
+            }
+            if (graph.getDegree(to) < graph.getDegree(from)) {
+                from = to;
+                to = edge.getSource();
+            }
+            for (int slot = graph.getFirstSlot(from); slot >= 0; slot = graph.getNextSlot(slot)) {
+                int edgeId = graph.getSlotEdgeId(slot);
+                if (graph.getSlotTarget(slot) == to && graph.getWeight(edgeId) == edge.getWeight()
+                        && !contains(ids, count, edgeId)) {
+                    ids[count++] = edgeId;
+                    break;
+                }
+            }
+        }
+        ids = Arrays.copyOf(ids, count);
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static boolean contains(int[] ids, int count, int edgeId) {
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == edgeId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long[] crossingEdgeKeys(Graph graph, int[] removedIds) {
+        int[] sizes = new int[fragmentRoots.length];
+        for (int i = 0; i < segmentStarts.length; i++) {
+            if (segmentLabels[i] >= 0) {
+                sizes[segmentLabels[i]] += segmentEnd(i) - segmentStarts[i];
+            }
+        }
+        Map<Integer, Integer> largest = new HashMap<>();
+        for (int fragment = 0; fragment < fragmentRoots.length; fragment++) {
+            largest.merge(tree.getRoot(fragmentRoots[fragment]), fragment,
+                    (current, candidate) -> sizes[candidate] > sizes[current] ? candidate : current);
+        }
+        boolean[] scanned = new boolean[fragmentRoots.length];
+        Arrays.fill(scanned, true);
+        for (int fragment : largest.values()) {
+            scanned[fragment] = false;
+        }
+
+        long[] keys = new long[16];
+        int count = 0;
+        for (int i = 0; i < segmentStarts.length; i++) {
+            int fragment = segmentLabels[i];
+            if (fragment < 0 || !scanned[fragment]) {
+                continue;
+            }
+            for (int position = segmentStarts[i]; position < segmentEnd(i); position++) {
+                int vertex = tree.getVertexAt(position);
+                for (int slot = graph.getFirstSlot(vertex); slot >= 0; slot = graph.getNextSlot(slot)) {
+                    int other = getFragment(graph.getSlotTarget(slot));
+                    int edgeId = graph.getSlotEdgeId(slot);
+                    if (other < 0 || other == fragment || scanned[other] && other < fragment
+                            || Arrays.binarySearch(removedIds, edgeId) >= 0) {
+                        continue;
+                    }
+                    if (count == keys.length) {
+                        keys = Arrays.copyOf(keys, count * 2);
+                    }
+                    keys[count++] = ((long) graph.getWeight(edgeId) << 32) | edgeId;
+                }
+            }
+        }
+        return Arrays.copyOf(keys, count);
+    }
+
+    private int segmentEnd(int segment) {
+        return segment + 1 < segmentStarts.length ? segmentStarts[segment + 1] : tree.getVertices();
+    }
+
+    private static int emit(int[] starts, int[] labels, int count, int position, int label) {
+        if (count > 0 && starts[count - 1] == position) {
+            labels[count - 1] = label;
+            return count;
+        }
+        starts[count] = position;
+        labels[count] = label;
+        return count + 1;
+    }
+
+    public int getFragment(int vertex) {
+        int segment = Arrays.binarySearch(segmentStarts, tree.getEntry(vertex));
+        if (segment < 0) {
+            segment = -segment - 2;
+        }
+        return segment < 0 ? -1 : segmentLabels[segment];
+    }
+
+    public int getFragmentCount() {
+        return fragmentRoots.length;
+    }
+
+    public List<Set<Integer>> getFragments() {
+        List<Set<Integer>> fragments = new ArrayList<>(fragmentRoots.length);
+        for (int i = 0; i < fragmentRoots.length; i++) {
+            fragments.add(new HashSet<>());
+        }
+        for (int i = 0; i < segmentStarts.length; i++) {
+            if (segmentLabels[i] < 0) {
+                continue;
+            }
+            for (int position = segmentStarts[i]; position < segmentEnd(i); position++) {
+                fragments.get(segmentLabels[i]).add(tree.getVertexAt(position));
+            }
+        }
+        return fragments;
+    }
+
+    public List<Edge> getRemovedTreeEdges() {
+        return Collections.unmodifiableList(removedTreeEdges);
+    }
+
+    public List<Edge> getReplacementEdges() {
+        return Collections.unmodifiableList(replacementEdges);
+    }
+
+    public boolean isReconnected() {
+        return replacementEdges.size() == removedTreeEdges.size();
+    }
+
+    public List<Edge> getNewMST() {
+        return Collections.unmodifiableList(newMST);
+    }
+
+    public long getWeightDelta() {
+        return weightDelta;
+    }
+}
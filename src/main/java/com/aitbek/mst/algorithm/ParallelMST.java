@@ -0,0 +1,123 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.Graph;
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+public class ParallelMST {
+    private static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 16;
+    private static final int SAMPLE_SIZE = 1023;
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    public ParallelMST() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelMST(ForkJoinPool pool) {
+        this(pool, DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    public ParallelMST(ForkJoinPool pool, int sequentialThreshold) {
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("Sequential threshold must be positive");
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    public int[] buildMST(PrimitiveGraph graph) {
+        return pool.submit(() -> new FilterKruskal(graph).run()).join();
+    }
+
+    public List<Edge> buildMST(Graph graph) {
+        int[] mst = buildMST((PrimitiveGraph) graph);
+
+        List<Edge> result = new ArrayList<>(mst.length);
+        for (int edgeId : mst) {
+            result.add(graph.toEdge(edgeId));
+        }
+        return result;
+    }
+
+    private class FilterKruskal {
+        private final PrimitiveGraph graph;
+        private final UnionFind uf;
+        private final int[] mst;
+        private int count;
+
+        FilterKruskal(PrimitiveGraph graph) {
+            this.graph = graph;
+            this.uf = new UnionFind(graph.getVertices());
+            this.mst = new int[Math.max(graph.getVertices() - 1, 0)];
+        }
+
+        int[] run() {
+            long[] keys = LongStream.range(0, graph.getEdgeCount())
+                    .parallel()
+                    .map(i -> ((long) graph.getWeight((int) i) << 32) | i)
+                    .toArray();
+
+            solve(keys);
+
+            return count == mst.length ? mst : Arrays.copyOf(mst, count);
+        }
+
+        private void solve(long[] keys) {
+            if (count == mst.length || keys.length == 0) {
+                return;
+            }
+
+            if (keys.length <= sequentialThreshold) {
+                Arrays.sort(keys);
+                kruskal(keys);
+                return;
+            }
+
+            long pivot = choosePivot(keys);
+            long[] light = Arrays.stream(keys).parallel().filter(key -> key <= pivot).toArray();
+            long[] heavy = Arrays.stream(keys).parallel().filter(key -> key > pivot).toArray();
+
+            solve(light);
+            if (count == mst.length) {
+                return;
+            }
+
+            solve(Arrays.stream(heavy).parallel().filter(key -> !closesCycle(key)).toArray());
+        }
+
+        private boolean closesCycle(long key) {
+            int edgeId = (int) key;
+            return uf.root(graph.getSource(edgeId)) == uf.root(graph.getDestination(edgeId));
+        }
+
+        private long choosePivot(long[] keys) {
+            int sampleSize = Math.min(SAMPLE_SIZE, keys.length);
+            int stride = keys.length / sampleSize;
+
+            long[] sample = new long[sampleSize];
+            for (int i = 0; i < sampleSize; i++) {
+                sample[i] = keys[i * stride];
+            }
+            Arrays.sort(sample);
+
+            return sample[(sampleSize - 1) / 2];
+        }
+
+        private void kruskal(long[] sortedKeys) {
+            for (int i = 0; i < sortedKeys.length && count < mst.length; i++) {
+                int edgeId = (int) sortedKeys[i];
+                if (uf.union(graph.getSource(edgeId), graph.getDestination(edgeId))) {
+                    mst[count++] = edgeId;
+                }
+            }
+        }
+    }
+}
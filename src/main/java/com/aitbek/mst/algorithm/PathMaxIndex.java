@@ -0,0 +1,140 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.util.Arrays;
+
+public final class PathMaxIndex {
+    private final int[] depth;
+    private final int[] root;
+    private final int[] parentEdge;
+    private final long[] parentKey;
+    private final int[][] up;
+    private final int[][] maxVertex;
+
+    public PathMaxIndex(PrimitiveGraph graph, int[] treeEdgeIds) {
+        this(graph, treeEdgeIds, null);
+    }
+
+    public PathMaxIndex(PrimitiveGraph graph, int[] treeEdgeIds, boolean[] fixed) {
+        int vertices = graph.getVertices();
+        this.depth = new int[vertices];
+        this.root = new int[vertices];
+        this.parentEdge = new int[vertices];
+        this.parentKey = new long[vertices];
+        Arrays.fill(parentEdge, -1);
+        Arrays.fill(parentKey, Long.MIN_VALUE);
+
+        int[] offsets = new int[vertices + 1];
+        for (int edgeId : treeEdgeIds) {
+            offsets[graph.getSource(edgeId) + 1]++;
+            offsets[graph.getDestination(edgeId) + 1]++;
+        }
+        for (int v = 0; v < vertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] slots = new int[treeEdgeIds.length * 2];
+        int[] cursor = Arrays.copyOf(offsets, vertices);
+        for (int edgeId : treeEdgeIds) {
+            slots[cursor[graph.getSource(edgeId)]++] = edgeId;
+            slots[cursor[graph.getDestination(edgeId)]++] = edgeId;
+        }
+
+        int levels = 1;
+        while ((1 << levels) < vertices) {
+            levels++;
+        }
+        this.up = new int[levels][vertices];
+        this.maxVertex = new int[levels][vertices];
+
+        boolean[] visited = new boolean[vertices];
+        int[] queue = new int[vertices];
+        for (int start = 0; start < vertices; start++) {
+            if (visited[start]) {
+                continue;
+            }
+            visited[start] = true;
+            root[start] = start;
+            up[0][start] = start;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+
+            while (head < tail) {
+                int vertex = queue[head++];
+                for (int s = offsets[vertex]; s < offsets[vertex + 1]; s++) {
+                    int edgeId = slots[s];
+                    int child = graph.getSource(edgeId) == vertex ? graph.getDestination(edgeId) : graph.getSource(edgeId);
+                    if (visited[child]) {
+                        continue;
+                    }
+                    visited[child] = true;
+                    depth[child] = depth[vertex] + 1;
+                    root[child] = root[vertex];
+                    up[0][child] = vertex;
+                    parentEdge[child] = edgeId;
+                    if (fixed == null || !fixed[edgeId]) {
+                        parentKey[child] = ((long) graph.getWeight(edgeId) << 32) | edgeId;
+                    }
+                    queue[tail++] = child;
+                }
+            }
+        }
+
+        for (int v = 0; v < vertices; v++) {
+            maxVertex[0][v] = v;
+        }
+        for (int k = 1; k < levels; k++) {
+            for (int v = 0; v < vertices; v++) {
+                int middle = up[k - 1][v];
+                up[k][v] = up[k - 1][middle];
+                maxVertex[k][v] = heavier(maxVertex[k - 1][v], maxVertex[k - 1][middle]);
+            }
+        }
+    }
+
+    private int heavier(int vertex1, int vertex2) {
+        if (vertex1 < 0) {
+            return vertex2;
+        }
+        return parentKey[vertex2] > parentKey[vertex1] ? vertex2 : vertex1;
+    }
+
+    public boolean connected(int vertex1, int vertex2) {
+        return root[vertex1] == root[vertex2];
+    }
+
+    public int query(int vertex1, int vertex2) {
+        if (vertex1 == vertex2 || root[vertex1] != root[vertex2]) {
+            return -1;
+        }
+
+        int best = -1;
+        if (depth[vertex1] < depth[vertex2]) {
+            int swap = vertex1;
+            vertex1 = vertex2;
+            vertex2 = swap;
+        }
+
+        int difference = depth[vertex1] - depth[vertex2];
+        for (int k = 0; difference > 0; k++, difference >>>= 1) {
+            if ((difference & 1) != 0) {
+                best = heavier(best, maxVertex[k][vertex1]);
+                vertex1 = up[k][vertex1];
+            }
+        }
+
+        if (vertex1 != vertex2) {
+            for (int k = up.length - 1; k >= 0; k--) {
+                if (up[k][vertex1] != up[k][vertex2]) {
+                    best = heavier(best, heavier(maxVertex[k][vertex1], maxVertex[k][vertex2]));
+                    vertex1 = up[k][vertex1];
+                    vertex2 = up[k][vertex2];
+                }
+            }
+            best = heavier(best, heavier(vertex1, vertex2));
+        }
+
+        return best < 0 || parentKey[best] == Long.MIN_VALUE ? -1 : parentEdge[best];
+    }
+}
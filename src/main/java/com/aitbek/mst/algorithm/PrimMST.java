@@ -0,0 +1,57 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.CompactGraph;
+
+import java.util.Arrays;
+
+public class PrimMST {
+    private final int arity;
+
+    public PrimMST() {
+        this(4);
+    }
+
+    public PrimMST(int arity) {
+        this.arity = arity;
+    }
+
+    public int[] buildMST(CompactGraph graph) {
+        int vertices = graph.getVertices();
+        IndexedDaryHeap heap = new IndexedDaryHeap(vertices, arity);
+        boolean[] visited = new boolean[vertices];
+        int[] mst = new int[Math.max(vertices - 1, 0)];
+        int count = 0;
+
+        for (int start = 0; start < vertices; start++) {
+            if (visited[start]) {
+                continue;
+            }
+
+            int vertex = start;
+            while (true) {
+                visited[vertex] = true;
+                for (int slot = graph.getAdjacencyStart(vertex); slot < graph.getAdjacencyEnd(vertex); slot++) {
+                    int target = graph.getTarget(slot);
+                    if (visited[target]) {
+                        continue;
+                    }
+
+                    long candidate = ((long) graph.getSlotWeight(slot) << 32) | graph.getSlotEdgeId(slot);
+                    if (!heap.contains(target)) {
+                        heap.insert(target, candidate);
+                    } else {
+                        heap.decreaseKey(target, candidate);
+                    }
+                }
+
+                if (heap.isEmpty()) {
+                    break;
+                }
+                mst[count++] = (int) heap.getPriority(heap.peekMin());
+                vertex = heap.pollMin();
+            }
+        }
+
+        return count == mst.length ? mst : Arrays.copyOf(mst, count);
+    }
+}
@@ -0,0 +1,139 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.CompactGraph;
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.util.*;
+
+public class ReplacementIndex implements ReplacementQueries {
+    private final RootedTree tree;
+    private final PrimitiveGraph graph;
+    private final int[] replacement;
+
+    public ReplacementIndex(int vertices, List<Edge> graphEdges, List<Edge> mstEdges) {
+        this(new RootedTree(vertices, mstEdges), graphEdges);
+    }
+
+    public ReplacementIndex(RootedTree tree, List<Edge> graphEdges) {
+        this(tree, toGraph(tree.getVertices(), graphEdges));
+    }
+
+    private ReplacementIndex(RootedTree tree, PrimitiveGraph graph) {
+        this(tree, graph, EdgeOrdering.AUTOMATIC.sort(graph));
+    }
+
+    public ReplacementIndex(RootedTree tree, PrimitiveGraph graph, int[] sortedEdgeIds) {
+        int vertices = tree.getVertices();
+        this.tree = tree;
+        this.graph = graph;
+        this.replacement = new int[vertices];
+        Arrays.fill(replacement, -1);
+
+        int[] jump = newJumps(vertices);
+        for (int edgeId : sortedEdgeIds) {
+            int source = graph.getSource(edgeId);
+            int destination = graph.getDestination(edgeId);
+            int child = tree.childOf(source, destination);
+            if (child >= 0 && tree.getParentEdge(child).getWeight() == graph.getWeight(edgeId)) {
+                continue;
+            }
+            if (climb(jump, source) != climb(jump, destination)) {
+                cover(jump, source, destination, edgeId);
+            }
+        }
+    }
+
+    private static PrimitiveGraph toGraph(int vertices, List<Edge> edges) {
+        int[] sources = new int[edges.size()];
+        int[] destinations = new int[edges.size()];
+        int[] weights = new int[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            Edge edge = edges.get(i);
+            sources[i] = edge.getSource();
+            destinations[i] = edge.getDestination();
+            weights[i] = edge.getWeight();
+        }
+        return CompactGraph.of(vertices, sources, destinations, weights);
+    }
+
+    private static int[] newJumps(int vertices) {
+        int[] jump = new int[vertices];
+        for (int i = 0; i < vertices; i++) {
+            jump[i] = i;
+        }
+        return jump;
+    }
+
+    private void cover(int[] jump, int source, int destination, int edgeId) {
+        int a = climb(jump, source);
+        int b = climb(jump, destination);
+
+        while (a != b) {
+            if (tree.getDepth(a) < tree.getDepth(b)) {
+                int swap = a;
+                a = b;
+                b = swap;
+            }
+
+            int up = tree.getParent(a);
+            if (up < 0) {
+                break;
+            }
+
+            replacement[a] = edgeId;
+            jump[a] = up;
+            a = climb(jump, up);
+        }
+    }
+
+    private static int climb(int[] jump, int vertex) {
+        int root = vertex;
+        while (jump[root] != root) {
+            root = jump[root];
+        }
+        while (jump[vertex] != root) {
+            int next = jump[vertex];
+            jump[vertex] = root;
+            vertex = next;
+        }
+        return root;
+    }
+
+    @Override
+    public boolean isTreeEdge(Edge edge) {
+        return tree.childOf(edge) >= 0;
+    }
+
+    @Override
+    public Edge findTreeEdge(int vertex1, int vertex2) {
+        int child = tree.childOf(vertex1, vertex2);
+        return child < 0 ? null : tree.getParentEdge(child);
+    }
+
+    @Override
+    public Edge getReplacement(Edge treeEdge) {
+        int child = tree.childOf(treeEdge);
+        return child < 0 || replacement[child] < 0 ? null : graph.toEdge(replacement[child]);
+    }
+
+    public int getReplacementEdgeId(int vertex) {
+        return replacement[vertex];
+    }
+
+    public Map<Edge, Edge> getReplacements() {
+        Map<Edge, Edge> result = new LinkedHashMap<>();
+        for (int i = 0; i < tree.getVertices(); i++) {
+            int vertex = tree.getOrderedVertex(i);
+            Edge treeEdge = tree.getParentEdge(vertex);
+            if (treeEdge != null) {
+                result.put(treeEdge, replacement[vertex] < 0 ? null : graph.toEdge(replacement[vertex]));
+            }
+        }
+        return result;
+    }
+
+    public RootedTree getTree() {
+        return tree;
+    }
+}
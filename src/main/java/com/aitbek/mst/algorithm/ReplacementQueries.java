@@ -0,0 +1,11 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.Edge;
+
+public interface ReplacementQueries {
+    boolean isTreeEdge(Edge edge);
+
+    Edge findTreeEdge(int vertex1, int vertex2);
+
+    Edge getReplacement(Edge treeEdge);
+}
@@ -0,0 +1,190 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.Edge;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class RootedTree {
+    private final int vertices;
+    private final int[] parent;
+    private final Edge[] parentEdge;
+    private final int[] depth;
+    private final int[] order;
+    private final int[] root;
+    private final int[] entry;
+    private final int[] vertexAt;
+    private final int[] subtreeSize;
+    private int components;
+
+    public RootedTree(int vertices, List<Edge> treeEdges) {
+        this.vertices = vertices;
+        this.parent = new int[vertices];
+        this.parentEdge = new Edge[vertices];
+        this.depth = new int[vertices];
+        this.order = new int[vertices];
+        this.root = new int[vertices];
+        this.entry = new int[vertices];
+        this.vertexAt = new int[vertices];
+        this.subtreeSize = new int[vertices];
+        Arrays.fill(parent, -1);
+
+        int[] head = new int[vertices];
+        int[] next = new int[treeEdges.size() * 2];
+        int[] target = new int[treeEdges.size() * 2];
+        Edge[] slotEdge = new Edge[treeEdges.size() * 2];
+        Arrays.fill(head, -1);
+
+        int slot = 0;
+        for (Edge edge : treeEdges) {
+            target[slot] = edge.getDestination();
+            slotEdge[slot] = edge;
+            next[slot] = head[edge.getSource()];
+            head[edge.getSource()] = slot++;
+
+            target[slot] = edge.getSource();
+            slotEdge[slot] = edge;
+            next[slot] = head[edge.getDestination()];
+            head[edge.getDestination()] = slot++;
+        }
+
+        boolean[] visited = new boolean[vertices];
+        int tail = 0;
+        for (int start = 0; start < vertices; start++) {
+            if (visited[start]) {
+                continue;
+            }
+
+            visited[start] = true;
+            root[start] = start;
+            int front = tail;
+            order[tail++] = start;
+
+            while (front < tail) {
+                int vertex = order[front++];
+                for (int s = head[vertex]; s != -1; s = next[s]) {
+                    int child = target[s];
+                    if (!visited[child]) {
+                        visited[child] = true;
+                        parent[child] = vertex;
+                        parentEdge[child] = slotEdge[s];
+                        depth[child] = depth[vertex] + 1;
+                        root[child] = root[vertex];
+                        order[tail++] = child;
+                    }
+                }
+            }
+        }
+
+        for (int i = vertices - 1; i >= 0; i--) {
+            int vertex = order[i];
+            subtreeSize[vertex]++;
+            if (parent[vertex] >= 0) {
+                subtreeSize[parent[vertex]] += subtreeSize[vertex];
+            }
+        }
+
+        int[] nextEntry = new int[vertices];
+        int offset = 0;
+        for (int i = 0; i < vertices; i++) {
+            int vertex = order[i];
+            int up = parent[vertex];
+            if (up < 0) {
+                entry[vertex] = offset;
+                offset += subtreeSize[vertex];
+                components++;
+            } else {
+                entry[vertex] = nextEntry[up];
+                nextEntry[up] += subtreeSize[vertex];
+            }
+            nextEntry[vertex] = entry[vertex] + 1;
+            vertexAt[entry[vertex]] = vertex;
+        }
+    }
+
+    public int getVertices() {
+        return vertices;
+    }
+
+    public boolean contains(int vertex) {
+        return vertex >= 0 && vertex < vertices;
+    }
+
+    public int getParent(int vertex) {
+        return parent[vertex];
+    }
+
+    public Edge getParentEdge(int vertex) {
+        return parentEdge[vertex];
+    }
+
+    public int getDepth(int vertex) {
+        return depth[vertex];
+    }
+
+    public int getRoot(int vertex) {
+        return root[vertex];
+    }
+
+    public int getEntry(int vertex) {
+        return entry[vertex];
+    }
+
+    public int getExit(int vertex) {
+        return entry[vertex] + subtreeSize[vertex];
+    }
+
+    public int getVertexAt(int entry) {
+        return vertexAt[entry];
+    }
+
+    public int getComponentCount() {
+        return components;
+    }
+
+    public int getSubtreeSize(int vertex) {
+        return subtreeSize[vertex];
+    }
+
+    public boolean isAncestor(int ancestor, int vertex) {
+        return entry[ancestor] <= entry[vertex] && entry[vertex] < entry[ancestor] + subtreeSize[ancestor];
+    }
+
+    public TreeCut cut(Edge edge) {
+        int child = childOf(edge);
+        return child < 0 ? null : new TreeCut(this, child);
+    }
+
+    public int getOrderedVertex(int index) {
+        return order[index];
+    }
+
+    public int childOf(int vertex1, int vertex2) {
+        if (!contains(vertex1) || !contains(vertex2)) {
+            return -1;
+        }
+        if (parent[vertex1] == vertex2) {
+            return vertex1;
+        }
+        if (parent[vertex2] == vertex1) {
+            return vertex2;
+        }
+        return -1;
+    }
+
+    public int childOf(Edge edge) {
+        int source = edge.getSource();
+        int destination = edge.getDestination();
+
+        if (!contains(source) || !contains(destination)) {
+            return -1;
+        }
+        if (parent[source] == destination && edge.equals(parentEdge[source])) {
+            return source;
+        }
+        if (parent[destination] == source && edge.equals(parentEdge[destination])) {
+            return destination;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,143 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public final class SpanningForest {
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    private final int[] component;
+    private final int[] componentSize;
+    private final int[] treeOffset;
+    private final int[] treeEdges;
+    private final long[] componentWeight;
+
+    private SpanningForest(int[] component, int[] componentSize, int[] treeOffset, int[] treeEdges, long[] componentWeight) {
+        this.component = component;
+        this.componentSize = componentSize;
+        this.treeOffset = treeOffset;
+        this.treeEdges = treeEdges;
+        this.componentWeight = componentWeight;
+    }
+
+    public static SpanningForest of(PrimitiveGraph graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    public static SpanningForest of(PrimitiveGraph graph, ForkJoinPool pool) {
+        int vertices = graph.getVertices();
+        int edgeCount = graph.getEdgeCount();
+
+        UnionFind uf = new UnionFind(vertices);
+        for (int e = 0; e < edgeCount; e++) {
+            uf.union(graph.getSource(e), graph.getDestination(e));
+        }
+
+        int components = uf.getComponentCount();
+        int[] component = new int[vertices];
+        int[] componentSize = new int[components];
+        int[] local = new int[vertices];
+        int[] label = new int[vertices];
+        Arrays.fill(label, -1);
+        int next = 0;
+        for (int v = 0; v < vertices; v++) {
+            int root = uf.find(v);
+            if (label[root] < 0) {
+                label[root] = next++;
+            }
+            component[v] = label[root];
+            local[v] = componentSize[component[v]]++;
+        }
+
+        int[] edgeOffset = new int[components + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            if (graph.getSource(e) != graph.getDestination(e)) {
+                edgeOffset[component[graph.getSource(e)] + 1]++;
+            }
+        }
+        for (int c = 0; c < components; c++) {
+            edgeOffset[c + 1] += edgeOffset[c];
+        }
+        long[] keys = new long[edgeOffset[components]];
+        int[] cursor = Arrays.copyOf(edgeOffset, components);
+        for (int e = 0; e < edgeCount; e++) {
+            if (graph.getSource(e) != graph.getDestination(e)) {
+                keys[cursor[component[graph.getSource(e)]]++] = ((long) graph.getWeight(e) << 32) | e;
+            }
+        }
+
+        int[] treeOffset = new int[components + 1];
+        for (int c = 0; c < components; c++) {
+            treeOffset[c + 1] = treeOffset[c] + componentSize[c] - 1;
+        }
+        int[] treeEdges = new int[treeOffset[components]];
+        long[] componentWeight = new long[components];
+
+        pool.submit(() -> IntStream.range(0, components).parallel().forEach(c -> {
+            int from = edgeOffset[c];
+            int to = edgeOffset[c + 1];
+            if (from == to) {
+                return;
+            }
+            if (to - from >= PARALLEL_SORT_THRESHOLD) {
+                Arrays.parallelSort(keys, from, to);
+            } else {
+                Arrays.sort(keys, from, to);
+            }
+
+            int count = treeOffset[c];
+            int limit = treeOffset[c + 1];
+            long weight = 0;
+            UnionFind forest = new UnionFind(componentSize[c]);
+            for (int i = from; i < to && count < limit; i++) {
+                int edgeId = (int) keys[i];
+                if (forest.union(local[graph.getSource(edgeId)], local[graph.getDestination(edgeId)])) {
+                    treeEdges[count++] = edgeId;
+                    weight += graph.getWeight(edgeId);
+                }
+            }
+            componentWeight[c] = weight;
+        })).join();
+
+        return new SpanningForest(component, componentSize, treeOffset, treeEdges, componentWeight);
+    }
+
+    public int getComponentCount() {
+        return componentSize.length;
+    }
+
+    public int getComponent(int vertex) {
+        return component[vertex];
+    }
+
+    public int getComponentSize(int component) {
+        return componentSize[component];
+    }
+
+    public boolean isSpanningTree() {
+        return componentSize.length <= 1;
+    }
+
+    public int[] getEdgeIds() {
+        return treeEdges.clone();
+    }
+
+    public int[] getTreeEdges(int component) {
+        return Arrays.copyOfRange(treeEdges, treeOffset[component], treeOffset[component + 1]);
+    }
+
+    public long getComponentWeight(int component) {
+        return componentWeight[component];
+    }
+
+    public long getTotalWeight() {
+        long total = 0;
+        for (long weight : componentWeight) {
+            total += weight;
+        }
+        return total;
+    }
+}
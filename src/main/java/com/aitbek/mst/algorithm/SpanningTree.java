@@ -0,0 +1,39 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class SpanningTree {
+    private final PrimitiveGraph graph;
+    private final int[] edgeIds;
+    private final long weight;
+
+    SpanningTree(PrimitiveGraph graph, int[] edgeIds, long weight) {
+        this.graph = graph;
+        this.edgeIds = edgeIds;
+        this.weight = weight;
+    }
+
+    public int[] getEdgeIds() {
+        return edgeIds.clone();
+    }
+
+    public int getEdgeCount() {
+        return edgeIds.length;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    public List<Edge> getEdges() {
+        List<Edge> edges = new ArrayList<>(edgeIds.length);
+        for (int edgeId : edgeIds) {
+            edges.add(graph.toEdge(edgeId));
+        }
+        return edges;
+    }
+}
@@ -0,0 +1,57 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.Edge;
+
+public final class TreeCut {
+    private final RootedTree tree;
+    private final int child;
+    private final int start;
+    private final int end;
+    private final int root;
+
+    TreeCut(RootedTree tree, int child) {
+        this.tree = tree;
+        this.child = child;
+        this.start = tree.getEntry(child);
+        this.end = tree.getExit(child);
+        this.root = tree.getRoot(child);
+    }
+
+    public Edge getEdge() {
+        return tree.getParentEdge(child);
+    }
+
+    public int getChild() {
+        return child;
+    }
+
+    public int getParent() {
+        return tree.getParent(child);
+    }
+
+    public boolean isOnChildSide(int vertex) {
+        int entry = tree.getEntry(vertex);
+        return start <= entry && entry < end;
+    }
+
+    public boolean isOnParentSide(int vertex) {
+        return tree.getRoot(vertex) == root && !isOnChildSide(vertex);
+    }
+
+    public boolean separates(int vertex1, int vertex2) {
+        return tree.getRoot(vertex1) == root && tree.getRoot(vertex2) == root
+                && isOnChildSide(vertex1) != isOnChildSide(vertex2);
+    }
+
+    public boolean crosses(Edge edge) {
+        return separates(edge.getSource(), edge.getDestination());
+    }
+
+    public int getChildSideSize() {
+        return end - start;
+    }
+
+    public int getParentSideSize() {
+        return tree.getSubtreeSize(root) - getChildSideSize();
+    }
+}
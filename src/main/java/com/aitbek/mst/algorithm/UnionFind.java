@@ -1,23 +1,39 @@
 package com.aitbek.mst.algorithm;
 
+import java.util.Arrays;
+
 public class UnionFind {
     private final int[] parent;
-    private final int[] rank;
+    private int components;
 
     public UnionFind(int size) {
         parent = new int[size];
-        rank = new int[size];
-        for (int i = 0; i < size; i++) {
-            parent[i] = i;
-            rank[i] = 0;
-        }
+        reset();
+    }
+
+    public void reset() {
+        Arrays.fill(parent, -1);
+        components = parent.length;
     }
 
     public int find(int vertex) {
-        if (parent[vertex] != vertex) {
-            parent[vertex] = find(parent[vertex]);
+        while (parent[vertex] >= 0) {
+            int next = parent[vertex];
+            int grandparent = parent[next];
+            if (grandparent < 0) {
+                return next;
+            }
+            parent[vertex] = grandparent;
+            vertex = grandparent;
+        }
+        return vertex;
+    }
+
+    public int root(int vertex) {
+        while (parent[vertex] >= 0) {
+            vertex = parent[vertex];
         }
-        return parent[vertex];
+        return vertex;
     }
 
     public boolean union(int vertex1, int vertex2) {
@@ -28,19 +44,32 @@ public class UnionFind {
             return false;
         }
 
-        if (rank[root1] < rank[root2]) {
-            parent[root1] = root2;
-        } else if (rank[root1] > rank[root2]) {
-            parent[root2] = root1;
-        } else {
-            parent[root2] = root1;
-            rank[root1]++;
+        if (parent[root1] > parent[root2]) {
+            int swap = root1;
+            root1 = root2;
+            root2 = swap;
         }
 
+        parent[root1] += parent[root2];
+        parent[root2] = root1;
+        components--;
+
         return true;
     }
 
     public boolean isConnected(int vertex1, int vertex2) {
         return find(vertex1) == find(vertex2);
     }
+
+    public int getComponentCount() {
+        return components;
+    }
+
+    public int getComponentSize(int vertex) {
+        return -parent[find(vertex)];
+    }
+
+    public int size() {
+        return parent.length;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.aitbek.mst.benchmark;
+
+import com.aitbek.mst.generator.GraphGenerator;
+import com.aitbek.mst.model.CompactGraph;
+
+public enum GraphFamily {
+    RANDOM {
+        @Override
+        CompactGraph generate(int vertices, int averageDegree, long seed) {
+            int edges = (int) Math.min(Integer.MAX_VALUE - 8, (long) vertices * averageDegree / 2);
+            return GENERATOR.erdosRenyi(vertices, edges, seed).toCompactGraph();
+        }
+    },
+
+    GRID {
+        @Override
+        CompactGraph generate(int vertices, int averageDegree, long seed) {
+            int side = (int) Math.ceil(Math.sqrt(vertices));
+            int rows = (vertices + side - 1) / side;
+            return GENERATOR.grid(rows, side, seed).toCompactGraph();
+        }
+    },
+
+    GEOMETRIC {
+        @Override
+        CompactGraph generate(int vertices, int averageDegree, long seed) {
+            return GENERATOR.randomGeometric(vertices, averageDegree, seed).toCompactGraph();
+        }
+    },
+
+    RMAT {
+        @Override
+        CompactGraph generate(int vertices, int averageDegree, long seed) {
+            int scale = Math.max(1, 32 - Integer.numberOfLeadingZeros(vertices - 1));
+            int edges = (int) Math.min(Integer.MAX_VALUE - 8, (long) vertices * averageDegree / 2);
+            return GENERATOR.rmat(scale, edges, seed).toCompactGraph();
+        }
+    },
+
+    POWER_LAW {
+        @Override
+        CompactGraph generate(int vertices, int averageDegree, long seed) {
+            return GENERATOR.preferentialAttachment(vertices, Math.max(1, averageDegree / 2), seed).toCompactGraph();
+        }
+    },
+
+    COMPLETE {
+        @Override
+        CompactGraph generate(int vertices, int averageDegree, long seed) {
+            if (vertices > MAX_COMPLETE_VERTICES) {
+                throw new IllegalArgumentException("Complete graphs are limited to " + MAX_COMPLETE_VERTICES
+                        + " vertices: " + vertices);
+            }
+            return GENERATOR.complete(vertices, seed).toCompactGraph();
+        }
+    };
+
+    static final int MAX_COMPLETE_VERTICES = 4096;
+
+    private static final GraphGenerator GENERATOR = new GraphGenerator();
+
+    abstract CompactGraph generate(int vertices, int averageDegree, long seed);
+}
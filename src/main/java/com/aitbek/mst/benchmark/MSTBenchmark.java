@@ -1,36 +1,55 @@
 package com.aitbek.mst.benchmark;
 
 import com.aitbek.mst.algorithm.MSTAlgorithm;
+import com.aitbek.mst.algorithm.ReplacementIndex;
+import com.aitbek.mst.algorithm.RootedTree;
+import com.aitbek.mst.model.CompactGraph;
 import com.aitbek.mst.model.Edge;
 import com.aitbek.mst.model.Graph;
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.List;
-import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.MICROSECONDS)
-@State(Scope.Thread)
+@State(Scope.Benchmark)
 @Warmup(iterations = 3, time = 1)
 @Measurement(iterations = 5, time = 1)
-@Fork(1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
 public class MSTBenchmark {
 
-    @Param({"10", "50", "100", "500"})
+    @Param({"1000", "100000", "1000000"})
     private int vertices;
 
+    @Param({"4", "16"})
+    private int averageDegree;
+
+    @Param({"RANDOM", "GEOMETRIC", "RMAT", "POWER_LAW"})
+    private GraphFamily family;
+
+    private CompactGraph compactGraph;
     private Graph graph;
     private MSTAlgorithm mstAlgorithm;
+    private List<Edge> mst;
     private Edge edgeToRemove;
 
     @Setup(Level.Trial)
     public void setUp() {
-        graph = createRandomGraph(vertices, vertices * 2);
+        compactGraph = family.generate(vertices, averageDegree, 42);
+        graph = Graph.from(compactGraph);
         mstAlgorithm = new MSTAlgorithm(graph);
-        List<Edge> mst = mstAlgorithm.buildMST();
+        mst = mstAlgorithm.buildMST();
         if (!mst.isEmpty()) {
-            edgeToRemove = mst.get(0);
+            edgeToRemove = mst.get(mst.size() / 2);
         }
     }
 
@@ -40,28 +59,55 @@ public class MSTBenchmark {
         return algo.buildMST();
     }
 
+    @Benchmark
+    public int[] benchmarkBuildMSTCompact() {
+        return MSTAlgorithm.buildMST(compactGraph);
+    }
+
     @Benchmark
     public Edge benchmarkFindReplacement() {
         return mstAlgorithm.findReplacementEdge(edgeToRemove);
     }
 
-    private Graph createRandomGraph(int vertices, int edges) {
-        Graph g = new Graph(vertices);
-        Random random = new Random(42);
+    @Benchmark
+    public List<Set<Integer>> benchmarkComponentsAfterRemoval() {
+        return mstAlgorithm.getComponentsAfterRemoval(edgeToRemove);
+    }
 
-        for (int i = 0; i < vertices - 1; i++) {
-            g.addEdge(i, i + 1, random.nextInt(100) + 1);
+    @Benchmark
+    public void benchmarkReplacementSweep(Blackhole blackhole) {
+        ReplacementIndex index = new ReplacementIndex(new RootedTree(graph.getVertices(), mst), graph, graph.getSortedEdgeIds());
+        for (Edge edge : mst) {
+            blackhole.consume(index.getReplacement(edge));
         }
+    }
 
-        int additionalEdges = edges - (vertices - 1);
-        for (int i = 0; i < additionalEdges; i++) {
-            int src = random.nextInt(vertices);
-            int dst = random.nextInt(vertices);
-            if (src != dst) {
-                g.addEdge(src, dst, random.nextInt(100) + 1);
-            }
-        }
+    @Benchmark
+    public Graph benchmarkGraphConstruction() {
+        return Graph.from(compactGraph);
+    }
+
+    @Benchmark
+    public CompactGraph benchmarkCompactGraphConstruction() {
+        return CompactGraph.from(graph);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        run(new OptionsBuilder());
+        run(new OptionsBuilder()
+                .param("family", "GRID")
+                .param("averageDegree", "4"));
+        run(new OptionsBuilder()
+                .param("family", "COMPLETE")
+                .param("averageDegree", "4")
+                .param("vertices", "1000", "4096"));
+    }
 
-        return g;
+    private static void run(ChainedOptionsBuilder builder) throws RunnerException {
+        Options options = builder
+                .include(MSTBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
     }
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package com.aitbek.mst.cli;
+
+import com.aitbek.mst.algorithm.EdgeOrdering;
+import com.aitbek.mst.algorithm.MSTAlgorithm;
+import com.aitbek.mst.algorithm.ReplacementIndex;
+import com.aitbek.mst.algorithm.ReplacementQueries;
+import com.aitbek.mst.algorithm.RootedTree;
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchRunner {
+    public enum Format {
+        CSV,
+        JSONL
+    }
+
+    private static final String CSV_HEADER =
+            "source,destination,weight,status,replacement_source,replacement_destination,replacement_weight,new_weight";
+
+    private final int vertices;
+    private final ReplacementQueries index;
+    private final long totalWeight;
+    private final Format format;
+
+    public BatchRunner(PrimitiveGraph graph, Format format) {
+        int[] order = EdgeOrdering.AUTOMATIC.sort(graph);
+        int[] treeEdgeIds = MSTAlgorithm.buildMST(graph, order);
+        List<Edge> mst = new ArrayList<>(treeEdgeIds.length);
+        for (int edgeId : treeEdgeIds) {
+            mst.add(graph.toEdge(edgeId));
+        }
+
+        this.vertices = graph.getVertices();
+        this.index = new ReplacementIndex(new RootedTree(vertices, mst), graph, order);
+        this.totalWeight = MSTAlgorithm.calculateMSTWeight(graph, treeEdgeIds);
+        this.format = format;
+    }
+
+    public BatchRunner(int vertices, ReplacementQueries index, long totalWeight, Format format) {
+        this.vertices = vertices;
+        this.index = index;
+        this.totalWeight = totalWeight;
+        this.format = format;
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public int run(BufferedReader queries, Writer out) throws IOException {
+        if (format == Format.CSV) {
+            out.write(CSV_HEADER);
+            out.write('\n');
+        }
+
+        int processed = 0;
+        String line;
+        while ((line = queries.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            answer(line, out);
+            processed++;
+        }
+
+        out.flush();
+        return processed;
+    }
+
+    private void answer(String line, Writer out) throws IOException {
+        String[] tokens = line.split("[\\s,]+");
+        int source;
+        int destination;
+        Integer weight;
+        try {
+            if (tokens.length < 2 || tokens.length > 3) {
+                throw new NumberFormatException();
+            }
+            source = Integer.parseInt(tokens[0]);
+            destination = Integer.parseInt(tokens[1]);
+            weight = tokens.length == 3 ? Integer.parseInt(tokens[2]) : null;
+        } catch (NumberFormatException e) {
+            writeInvalid(line, out);
+            return;
+        }
+        if (source < 0 || destination < 0 || source >= vertices || destination >= vertices) {
+            writeInvalid(line, out);
+            return;
+        }
+
+        Edge removed = weight != null
+                ? new Edge(source, destination, weight)
+                : index.findTreeEdge(source, destination);
+
+        if (removed == null || !index.isTreeEdge(removed)) {
+            write(out, source, destination, weight, "not_in_mst", null, totalWeight);
+            return;
+        }
+
+        Edge replacement = index.getReplacement(removed);
+        long newWeight = totalWeight - removed.getWeight() + (replacement == null ? 0 : replacement.getWeight());
+        write(out, source, destination, removed.getWeight(),
+                replacement == null ? "no_replacement" : "ok", replacement, newWeight);
+    }
+
+    private void write(Writer out, int source, int destination, Integer weight, String status,
+                       Edge replacement, long newWeight) throws IOException {
+        StringBuilder row = new StringBuilder(96);
+        if (format == Format.CSV) {
+            row.append(source).append(',').append(destination).append(',')
+                    .append(weight == null ? "" : weight).append(',')
+                    .append(status).append(',');
+            if (replacement != null) {
+                row.append(replacement.getSource()).append(',')
+                        .append(replacement.getDestination()).append(',')
+                        .append(replacement.getWeight()).append(',');
+            } else {
+                row.append(",,,");
+            }
+            row.append(newWeight);
+        } else {
+            row.append("{\"source\":").append(source)
+                    .append(",\"destination\":").append(destination)
+                    .append(",\"weight\":").append(weight == null ? "null" : weight.toString())
+                    .append(",\"status\":\"").append(status).append('"')
+                    .append(",\"replacement\":");
+            if (replacement != null) {
+                row.append("{\"source\":").append(replacement.getSource())
+                        .append(",\"destination\":").append(replacement.getDestination())
+                        .append(",\"weight\":").append(replacement.getWeight()).append('}');
+            } else {
+                row.append("null");
+            }
+            row.append(",\"newWeight\":").append(newWeight).append('}');
+        }
+        row.append('\n');
+        out.write(row.toString());
+    }
+
+    private void writeInvalid(String line, Writer out) throws IOException {
+        if (format == Format.CSV) {
+            out.write(escapeCsv(line) + ",,,invalid,,,,\n");
+        } else {
+            out.write("{\"status\":\"invalid\",\"query\":\"" + escapeJson(line) + "\"}\n");
+        }
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String escapeJson(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -1,10 +1,27 @@
 package com.aitbek.mst.cli;
 
 import com.aitbek.mst.algorithm.MSTAlgorithm;
+import com.aitbek.mst.io.MappedGraph;
+import com.aitbek.mst.io.MappedSnapshot;
+import com.aitbek.mst.io.SnapshotFormat;
 import com.aitbek.mst.metrics.PerformanceMetrics;
 import com.aitbek.mst.model.Edge;
 import com.aitbek.mst.model.Graph;
+import com.aitbek.mst.model.PrimitiveGraph;
+import com.aitbek.mst.server.MSTServer;
+import com.aitbek.mst.service.MSTService;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Scanner;
 import java.util.Set;
@@ -26,7 +43,7 @@ public class MSTApplication {
         long startTime = System.nanoTime();
         List<Edge> mst = mstAlgorithm.buildMST();
         long duration = System.nanoTime() - startTime;
-        metrics.recordOperation("Build MST", duration, graph.getVertices(), graph.getEdges().size());
+        metrics.recordOperation("Build MST", duration, graph.getVertices(), graph.getEdgeCount());
 
         displayMST(mst);
 
@@ -45,7 +62,7 @@ public class MSTApplication {
         startTime = System.nanoTime();
         Edge replacement = mstAlgorithm.findReplacementEdge(edgeToRemove);
         duration = System.nanoTime() - startTime;
-        metrics.recordOperation("Find Replacement", duration, graph.getVertices(), graph.getEdges().size());
+        metrics.recordOperation("Find Replacement", duration, graph.getVertices(), graph.getEdgeCount());
 
         displayReplacement(replacement);
 
@@ -114,8 +131,156 @@ public class MSTApplication {
         System.out.printf("Total MST Weight: %d%n", mstAlgorithm.calculateMSTWeight(newMST));
     }
 
-    public static void main(String[] args) {
-        Graph graph = Graph.createSampleGraph();
+    static Graph loadGraph(String path, PrintStream log) throws IOException {
+        if (path == null) {
+            return Graph.createSampleGraph();
+        }
+
+        try (MappedGraph mapped = openGraph(path, log)) {
+            return Graph.from(mapped);
+        }
+    }
+
+    static MappedGraph openGraph(String path, PrintStream log) throws IOException {
+        long startTime = System.nanoTime();
+        MappedGraph mapped = MappedGraph.open(Path.of(path));
+        log.printf("Mapped %s (vertices: %d, edges: %d) in %.3f ms%n%n",
+                path, mapped.getVertices(), mapped.getEdgeCount(), (System.nanoTime() - startTime) / 1_000_000.0);
+        return mapped;
+    }
+
+    static MappedSnapshot openSnapshot(String path, PrimitiveGraph graph, PrintStream log) throws IOException {
+        Path file = Path.of(path);
+        long startTime = System.nanoTime();
+        if (Files.exists(file)) {
+            try {
+                MappedSnapshot snapshot = MappedSnapshot.open(file, graph);
+                log.printf("Mapped snapshot %s in %.3f ms%n%n", path, (System.nanoTime() - startTime) / 1_000_000.0);
+                return snapshot;
+            } catch (IOException e) {
+                log.printf("Rebuilding snapshot: %s%n", e.getMessage());
+            }
+        }
+
+        SnapshotFormat.write(file, graph);
+        MappedSnapshot snapshot = MappedSnapshot.open(file, graph);
+        log.printf("Wrote snapshot %s in %.3f ms%n%n", path, (System.nanoTime() - startTime) / 1_000_000.0);
+        return snapshot;
+    }
+
+    static void runBatch(String[] args) throws IOException {
+        String graphPath = null;
+        String snapshotPath = null;
+        String queriesPath = "-";
+        String outputPath = "-";
+        BatchRunner.Format format = BatchRunner.Format.CSV;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--batch":
+                    break;
+                case "--graph":
+                    graphPath = args[++i];
+                    break;
+                case "--queries":
+                    queriesPath = args[++i];
+                    break;
+                case "--output":
+                    outputPath = args[++i];
+                    break;
+                case "--format":
+                    format = BatchRunner.Format.valueOf(args[++i].toUpperCase());
+                    break;
+                case "--snapshot":
+                    snapshotPath = args[++i];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        MappedGraph mapped = graphPath == null ? null : openGraph(graphPath, System.err);
+        MappedSnapshot snapshot = null;
+        try {
+            PrimitiveGraph graph = mapped != null ? mapped : Graph.createSampleGraph();
+            snapshot = snapshotPath == null ? null : openSnapshot(snapshotPath, graph, System.err);
+            try (BufferedReader queries = "-".equals(queriesPath)
+                    ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                    : Files.newBufferedReader(Path.of(queriesPath));
+                 Writer out = "-".equals(outputPath)
+                         ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16)
+                         : Files.newBufferedWriter(Path.of(outputPath))) {
+                BatchRunner runner = snapshot == null
+                        ? new BatchRunner(graph, format)
+                        : new BatchRunner(graph.getVertices(), snapshot, snapshot.getTotalWeight(), format);
+                runner.run(queries, out);
+            }
+        } finally {
+            close(snapshot, mapped);
+        }
+    }
+
+    static void runServer(String[] args) throws IOException {
+        String graphPath = null;
+        String snapshotPath = null;
+        int port = 8080;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--server":
+                    break;
+                case "--graph":
+                    graphPath = args[++i];
+                    break;
+                case "--port":
+                    port = Integer.parseInt(args[++i]);
+                    break;
+                case "--snapshot":
+                    snapshotPath = args[++i];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        MappedGraph mapped = graphPath == null ? null : openGraph(graphPath, System.out);
+        MappedSnapshot snapshot = null;
+        MSTServer server;
+        try {
+            PrimitiveGraph graph = mapped != null ? mapped : Graph.createSampleGraph();
+            snapshot = snapshotPath == null ? null : openSnapshot(snapshotPath, graph, System.out);
+            MappedSnapshot warm = snapshot;
+            server = new MSTServer(port, warm == null
+                    ? new MSTService(graph)
+                    : new MSTService(graph, warm), () -> close(warm, mapped));
+        } catch (IOException | RuntimeException e) {
+            close(snapshot, mapped);
+            throw e;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        server.start();
+        System.out.printf("MST server listening on http://localhost:%d%n", server.getPort());
+    }
+
+    private static void close(Closeable... resources) throws IOException {
+        for (Closeable resource : resources) {
+            if (resource != null) {
+                resource.close();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && "--batch".equals(args[0])) {
+            runBatch(args);
+            return;
+        }
+        if (args.length > 0 && "--server".equals(args[0])) {
+            runServer(args);
+            return;
+        }
+
+        Graph graph = loadGraph(args.length > 0 ? args[0] : null, System.out);
         MSTApplication app = new MSTApplication(graph);
         app.run();
     }
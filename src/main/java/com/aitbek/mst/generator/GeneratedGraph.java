@@ -0,0 +1,55 @@
+package com.aitbek.mst.generator;
+
+import com.aitbek.mst.io.BinaryGraphFormat;
+import com.aitbek.mst.model.CompactGraph;
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public final class GeneratedGraph implements PrimitiveGraph {
+    private final int vertices;
+    private final int[] sources;
+    private final int[] destinations;
+    private final int[] weights;
+
+    GeneratedGraph(int vertices, int[] sources, int[] destinations, int[] weights) {
+        this.vertices = vertices;
+        this.sources = sources;
+        this.destinations = destinations;
+        this.weights = weights;
+    }
+
+    @Override
+    public int getVertices() {
+        return vertices;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return sources.length;
+    }
+
+    @Override
+    public int getSource(int edgeId) {
+        return sources[edgeId];
+    }
+
+    @Override
+    public int getDestination(int edgeId) {
+        return destinations[edgeId];
+    }
+
+    @Override
+    public int getWeight(int edgeId) {
+        return weights[edgeId];
+    }
+
+    public CompactGraph toCompactGraph() {
+        return CompactGraph.of(vertices, sources, destinations, weights);
+    }
+
+    public void writeTo(Path path) throws IOException {
+        BinaryGraphFormat.write(path, this);
+    }
+}
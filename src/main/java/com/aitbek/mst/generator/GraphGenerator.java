@@ -0,0 +1,303 @@
+package com.aitbek.mst.generator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class GraphGenerator {
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int maxWeight;
+
+    public GraphGenerator() {
+        this(ForkJoinPool.commonPool(), 65535);
+    }
+
+    public GraphGenerator(ForkJoinPool pool, int maxWeight) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("Max weight must be positive");
+        }
+        this.pool = pool;
+        this.maxWeight = maxWeight;
+    }
+
+    public GeneratedGraph erdosRenyi(int vertices, int edges, long seed) {
+        if (vertices < 2) {
+            throw new IllegalArgumentException("Erdos-Renyi graphs need at least two vertices");
+        }
+
+        int[] sources = new int[edges];
+        int[] destinations = new int[edges];
+        int[] weights = new int[edges];
+
+        forEachBlock(edges, seed, (random, start, end) -> {
+            for (int i = start; i < end; i++) {
+                int source = random.nextInt(vertices);
+                sources[i] = source;
+                destinations[i] = (source + 1 + random.nextInt(vertices - 1)) % vertices;
+                weights[i] = nextWeight(random);
+            }
+        });
+
+        return new GeneratedGraph(vertices, sources, destinations, weights);
+    }
+
+    public GeneratedGraph rmat(int scale, int edges, long seed) {
+        return rmat(scale, edges, 0.57, 0.19, 0.19, seed);
+    }
+
+    public GeneratedGraph rmat(int scale, int edges, double a, double b, double c, long seed) {
+        if (scale < 1 || scale > 30) {
+            throw new IllegalArgumentException("R-MAT scale must be in 1..30: " + scale);
+        }
+        if (a < 0 || b < 0 || c < 0 || a + b + c > 1) {
+            throw new IllegalArgumentException("Invalid R-MAT probabilities");
+        }
+
+        int[] sources = new int[edges];
+        int[] destinations = new int[edges];
+        int[] weights = new int[edges];
+        double ab = a + b;
+        double abc = a + b + c;
+
+        forEachBlock(edges, seed, (random, start, end) -> {
+            for (int i = start; i < end; i++) {
+                int source = 0;
+                int destination = 0;
+                for (int level = 0; level < scale; level++) {
+                    double r = random.nextDouble();
+                    source <<= 1;
+                    destination <<= 1;
+                    if (r >= abc) {
+                        source |= 1;
+                        destination |= 1;
+                    } else if (r >= ab) {
+                        source |= 1;
+                    } else if (r >= a) {
+                        destination |= 1;
+                    }
+                }
+                sources[i] = source;
+                destinations[i] = destination;
+                weights[i] = nextWeight(random);
+            }
+        });
+
+        return new GeneratedGraph(1 << scale, sources, destinations, weights);
+    }
+
+    public GeneratedGraph grid(int rows, int columns, long seed) {
+        long horizontal = (long) rows * Math.max(columns - 1, 0);
+        long vertical = (long) Math.max(rows - 1, 0) * columns;
+        if ((long) rows * columns > Integer.MAX_VALUE || horizontal + vertical > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid too large: " + rows + "x" + columns);
+        }
+
+        int edges = (int) (horizontal + vertical);
+        int[] sources = new int[edges];
+        int[] destinations = new int[edges];
+        int[] weights = new int[edges];
+
+        forEachBlock(edges, seed, (random, start, end) -> {
+            for (int i = start; i < end; i++) {
+                if (i < horizontal) {
+                    int row = i / (columns - 1);
+                    int column = i % (columns - 1);
+                    sources[i] = row * columns + column;
+                    destinations[i] = sources[i] + 1;
+                } else {
+                    sources[i] = (int) (i - horizontal);
+                    destinations[i] = sources[i] + columns;
+                }
+                weights[i] = nextWeight(random);
+            }
+        });
+
+        return new GeneratedGraph(rows * columns, sources, destinations, weights);
+    }
+
+    public GeneratedGraph randomGeometric(int vertices, double averageDegree, long seed) {
+        double radius = Math.sqrt(averageDegree / (Math.PI * Math.max(vertices, 1)));
+        int cells = (int) Math.max(1, Math.min(1 << 15, Math.floor(1 / radius)));
+        double[] x = new double[vertices];
+        double[] y = new double[vertices];
+
+        forEachBlock(vertices, seed, (random, start, end) -> {
+            for (int v = start; v < end; v++) {
+                x[v] = random.nextDouble();
+                y[v] = random.nextDouble();
+            }
+        });
+
+        int[] cellOf = new int[vertices];
+        int[] cellStart = new int[cells * cells + 1];
+        for (int v = 0; v < vertices; v++) {
+            cellOf[v] = Math.min(cells - 1, (int) (x[v] * cells)) * cells + Math.min(cells - 1, (int) (y[v] * cells));
+            cellStart[cellOf[v] + 1]++;
+        }
+        for (int cell = 0; cell < cells * cells; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+        int[] members = new int[vertices];
+        int[] cursor = Arrays.copyOf(cellStart, cells * cells);
+        for (int v = 0; v < vertices; v++) {
+            members[cursor[cellOf[v]]++] = v;
+        }
+
+        int blocks = blockCount(vertices);
+        EdgeBuffer[] parts = new EdgeBuffer[blocks];
+        pool.submit(() -> IntStream.range(0, blocks).parallel().forEach(block -> {
+            int start = block * BLOCK_SIZE;
+            int end = Math.min(vertices, start + BLOCK_SIZE);
+            SplittableRandom random = blockRandom(seed ^ 0x5DEECE66DL, block);
+            EdgeBuffer part = new EdgeBuffer((long) (end - start) * (long) Math.ceil(averageDegree / 2));
+
+            for (int v = start; v < end; v++) {
+                int cx = cellOf[v] / cells;
+                int cy = cellOf[v] % cells;
+                for (int nx = Math.max(0, cx - 1); nx <= Math.min(cells - 1, cx + 1); nx++) {
+                    for (int ny = Math.max(0, cy - 1); ny <= Math.min(cells - 1, cy + 1); ny++) {
+                        int cell = nx * cells + ny;
+                        for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                            int u = members[i];
+                            if (u > v && Math.hypot(x[u] - x[v], y[u] - y[v]) <= radius) {
+                                part.add(v, u, nextWeight(random));
+                            }
+                        }
+                    }
+                }
+            }
+            parts[block] = part;
+        })).join();
+
+        return EdgeBuffer.concat(vertices, parts);
+    }
+
+    public GeneratedGraph preferentialAttachment(int vertices, int links, long seed) {
+        if (links < 1) {
+            throw new IllegalArgumentException("Preferential attachment needs at least one link per vertex");
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        EdgeBuffer edges = new EdgeBuffer((long) vertices * links);
+        int[] endpoints = new int[(int) Math.min(Integer.MAX_VALUE - 8, 2L * vertices * links)];
+        int endpointCount = 0;
+
+        for (int v = 1; v < vertices; v++) {
+            int attachments = Math.min(links, v);
+            for (int j = 0; j < attachments; j++) {
+                int target = endpointCount == 0 ? 0 : endpoints[random.nextInt(endpointCount)];
+                edges.add(v, target, nextWeight(random));
+                if (endpointCount + 2 <= endpoints.length) {
+                    endpoints[endpointCount++] = v;
+                    endpoints[endpointCount++] = target;
+                }
+            }
+        }
+
+        return EdgeBuffer.concat(vertices, new EdgeBuffer[] {edges});
+    }
+
+    public GeneratedGraph complete(int vertices, long seed) {
+        long edgeCount = (long) vertices * Math.max(vertices - 1, 0) / 2;
+        if (edgeCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Complete graph too large: " + vertices);
+        }
+
+        int[] sources = new int[(int) edgeCount];
+        int[] destinations = new int[(int) edgeCount];
+        int[] weights = new int[(int) edgeCount];
+
+        forEachBlock(vertices, seed, (random, start, end) -> {
+            for (int i = start; i < end; i++) {
+                int offset = (int) ((long) i * (2L * vertices - i - 1) / 2);
+                for (int j = i + 1; j < vertices; j++) {
+                    sources[offset] = i;
+                    destinations[offset] = j;
+                    weights[offset] = nextWeight(random);
+                    offset++;
+                }
+            }
+        });
+
+        return new GeneratedGraph(vertices, sources, destinations, weights);
+    }
+
+    private int nextWeight(SplittableRandom random) {
+        return 1 + random.nextInt(maxWeight);
+    }
+
+    private interface BlockTask {
+        void fill(SplittableRandom random, int start, int end);
+    }
+
+    private void forEachBlock(int size, long seed, BlockTask task) {
+        int blocks = blockCount(size);
+        pool.submit(() -> IntStream.range(0, blocks).parallel().forEach(block -> {
+            int start = block * BLOCK_SIZE;
+            task.fill(blockRandom(seed, block), start, Math.min(size, start + BLOCK_SIZE));
+        })).join();
+    }
+
+    private static int blockCount(int size) {
+        return (int) ((size + (long) BLOCK_SIZE - 1) / BLOCK_SIZE);
+    }
+
+    static SplittableRandom blockRandom(long seed, int block) {
+        long z = seed + (block + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return new SplittableRandom(z ^ (z >>> 31));
+    }
+
+    private static final class EdgeBuffer {
+        private int[] sources;
+        private int[] destinations;
+        private int[] weights;
+        private int size;
+
+        EdgeBuffer(long expected) {
+            int capacity = (int) Math.max(16, Math.min(Integer.MAX_VALUE - 8, expected));
+            sources = new int[capacity];
+            destinations = new int[capacity];
+            weights = new int[capacity];
+        }
+
+        void add(int source, int destination, int weight) {
+            if (size == sources.length) {
+                int capacity = (int) Math.min(Integer.MAX_VALUE - 8, sources.length * 2L);
+                sources = Arrays.copyOf(sources, capacity);
+                destinations = Arrays.copyOf(destinations, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            sources[size] = source;
+            destinations[size] = destination;
+            weights[size] = weight;
+            size++;
+        }
+
+        static GeneratedGraph concat(int vertices, EdgeBuffer[] parts) {
+            long total = 0;
+            for (EdgeBuffer part : parts) {
+                total += part.size;
+            }
+            if (total > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many edges: " + total);
+            }
+
+            int[] sources = new int[(int) total];
+            int[] destinations = new int[(int) total];
+            int[] weights = new int[(int) total];
+            int offset = 0;
+            for (EdgeBuffer part : parts) {
+                System.arraycopy(part.sources, 0, sources, offset, part.size);
+                System.arraycopy(part.destinations, 0, destinations, offset, part.size);
+                System.arraycopy(part.weights, 0, weights, offset, part.size);
+                offset += part.size;
+            }
+            return new GeneratedGraph(vertices, sources, destinations, weights);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.aitbek.mst.io;
+
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public final class BinaryGraphFormat {
+    public static final int MAGIC = 0x4754534D;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 32;
+    public static final int SHORT_WEIGHTS = 2;
+    public static final int INT_WEIGHTS = 4;
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private BinaryGraphFormat() {
+    }
+
+    public static long sourcesOffset() {
+        return HEADER_BYTES;
+    }
+
+    public static long destinationsOffset(long edgeCount) {
+        return HEADER_BYTES + edgeCount * Integer.BYTES;
+    }
+
+    public static long weightsOffset(long edgeCount) {
+        return HEADER_BYTES + edgeCount * Integer.BYTES * 2;
+    }
+
+    public static long fileSize(long edgeCount, int weightWidth) {
+        return weightsOffset(edgeCount) + edgeCount * weightWidth;
+    }
+
+    public static int weightWidthFor(PrimitiveGraph graph) {
+        for (int i = 0; i < graph.getEdgeCount(); i++) {
+            int weight = graph.getWeight(i);
+            if (weight < 0 || weight > 0xFFFF) {
+                return INT_WEIGHTS;
+            }
+        }
+        return SHORT_WEIGHTS;
+    }
+
+    public static void write(Path path, PrimitiveGraph graph) throws IOException {
+        write(path, graph, weightWidthFor(graph));
+    }
+
+    public static void write(Path path, PrimitiveGraph graph, int[] edgeIds) throws IOException {
+        write(path, new PrimitiveGraph() {
+            @Override
+            public int getVertices() {
+                return graph.getVertices();
+            }
+
+            @Override
+            public int getEdgeCount() {
+                return edgeIds.length;
+            }
+
+            @Override
+            public int getSource(int edgeId) {
+                return graph.getSource(edgeIds[edgeId]);
+            }
+
+            @Override
+            public int getDestination(int edgeId) {
+                return graph.getDestination(edgeIds[edgeId]);
+            }
+
+            @Override
+            public int getWeight(int edgeId) {
+                return graph.getWeight(edgeIds[edgeId]);
+            }
+        });
+    }
+
+    public static void write(Path path, PrimitiveGraph graph, int weightWidth) throws IOException {
+        if (weightWidth != SHORT_WEIGHTS && weightWidth != INT_WEIGHTS) {
+            throw new IllegalArgumentException("Unsupported weight width: " + weightWidth);
+        }
+
+        int edgeCount = graph.getEdgeCount();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt(graph.getVertices());
+            buffer.putInt(weightWidth);
+            buffer.putLong(edgeCount);
+            buffer.putLong(0L);
+
+            for (int i = 0; i < edgeCount; i++) {
+                ensureRemaining(channel, buffer, Integer.BYTES);
+                buffer.putInt(graph.getSource(i));
+            }
+            for (int i = 0; i < edgeCount; i++) {
+                ensureRemaining(channel, buffer, Integer.BYTES);
+                buffer.putInt(graph.getDestination(i));
+            }
+            for (int i = 0; i < edgeCount; i++) {
+                ensureRemaining(channel, buffer, weightWidth);
+                int weight = graph.getWeight(i);
+                if (weightWidth == SHORT_WEIGHTS) {
+                    if (weight < 0 || weight > 0xFFFF) {
+                        throw new IllegalArgumentException("Weight does not fit in 16 bits: " + weight);
+                    }
+                    buffer.putShort((short) weight);
+                } else {
+                    buffer.putInt(weight);
+                }
+            }
+
+            flush(channel, buffer);
+        }
+    }
+
+    private static void ensureRemaining(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush(channel, buffer);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
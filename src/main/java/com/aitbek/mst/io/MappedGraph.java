@@ -0,0 +1,134 @@
+package com.aitbek.mst.io;
+
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public final class MappedGraph implements PrimitiveGraph, Closeable {
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    private final FileChannel channel;
+    private final ByteBuffer[] chunks;
+    private final int vertices;
+    private final int edgeCount;
+    private final int weightWidth;
+    private final long destinationsOffset;
+    private final long weightsOffset;
+
+    private MappedGraph(FileChannel channel, ByteBuffer[] chunks, int vertices, int edgeCount, int weightWidth) {
+        this.channel = channel;
+        this.chunks = chunks;
+        this.vertices = vertices;
+        this.edgeCount = edgeCount;
+        this.weightWidth = weightWidth;
+        this.destinationsOffset = BinaryGraphFormat.destinationsOffset(edgeCount);
+        this.weightsOffset = BinaryGraphFormat.weightsOffset(edgeCount);
+    }
+
+    public static MappedGraph open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < BinaryGraphFormat.HEADER_BYTES) {
+                throw new IOException("File too small for graph header: " + path);
+            }
+
+            ByteBuffer[] chunks = new ByteBuffer[(int) ((size + CHUNK_MASK) >>> CHUNK_SHIFT)];
+            for (int i = 0; i < chunks.length; i++) {
+                long position = (long) i << CHUNK_SHIFT;
+                long length = Math.min(size - position, 1L << CHUNK_SHIFT);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, length)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+
+            ByteBuffer header = chunks[0];
+            if (header.getInt(0) != BinaryGraphFormat.MAGIC) {
+                throw new IOException("Not a binary graph file: " + path);
+            }
+            if (header.getInt(4) != BinaryGraphFormat.VERSION) {
+                throw new IOException("Unsupported graph file version: " + header.getInt(4));
+            }
+
+            int vertices = header.getInt(8);
+            int weightWidth = header.getInt(12);
+            long edgeCount = header.getLong(16);
+
+            if (vertices < 0 || edgeCount < 0 || edgeCount > Integer.MAX_VALUE) {
+                throw new IOException("Corrupt graph header: " + path);
+            }
+            if (weightWidth != BinaryGraphFormat.SHORT_WEIGHTS && weightWidth != BinaryGraphFormat.INT_WEIGHTS) {
+                throw new IOException("Unsupported weight width: " + weightWidth);
+            }
+            if (size < BinaryGraphFormat.fileSize(edgeCount, weightWidth)) {
+                throw new IOException("Truncated graph file: " + path);
+            }
+
+            MappedGraph graph = new MappedGraph(channel, chunks, vertices, (int) edgeCount, weightWidth);
+            graph.checkEndpoints(path);
+            return graph;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int getVertices() {
+        return vertices;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    public int getSource(int edgeId) {
+        return readInt(BinaryGraphFormat.sourcesOffset() + (long) edgeId * Integer.BYTES);
+    }
+
+    @Override
+    public int getDestination(int edgeId) {
+        return readInt(destinationsOffset + (long) edgeId * Integer.BYTES);
+    }
+
+    @Override
+    public int getWeight(int edgeId) {
+        if (weightWidth == BinaryGraphFormat.SHORT_WEIGHTS) {
+            long offset = weightsOffset + (long) edgeId * Short.BYTES;
+            return Short.toUnsignedInt(chunks[(int) (offset >>> CHUNK_SHIFT)].getShort((int) (offset & CHUNK_MASK)));
+        }
+        return readInt(weightsOffset + (long) edgeId * Integer.BYTES);
+    }
+
+    public int getWeightWidth() {
+        return weightWidth;
+    }
+
+    private void checkEndpoints(Path path) throws IOException {
+        long end = destinationsOffset + (long) edgeCount * Integer.BYTES;
+        for (long offset = BinaryGraphFormat.sourcesOffset(); offset < end; offset += Integer.BYTES) {
+            int vertex = readInt(offset);
+            if (vertex < 0 || vertex >= vertices) {
+                throw new IOException("Corrupt graph file: vertex " + vertex + " out of range [0, " + vertices
+                        + ") at byte " + offset + " of " + path);
+            }
+        }
+    }
+
+    private int readInt(long offset) {
+        return chunks[(int) (offset >>> CHUNK_SHIFT)].getInt((int) (offset & CHUNK_MASK));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
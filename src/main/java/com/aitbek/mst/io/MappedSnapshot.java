@@ -0,0 +1,224 @@
+package com.aitbek.mst.io;
+
+import com.aitbek.mst.algorithm.ReplacementQueries;
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class MappedSnapshot implements ReplacementQueries, Closeable {
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    private final FileChannel channel;
+    private final ByteBuffer[] chunks;
+    private final PrimitiveGraph graph;
+    private final int vertices;
+    private final int edgeCount;
+    private final int treeEdgeCount;
+    private final int componentCount;
+    private final long checksum;
+    private final long totalWeight;
+    private final long treeEdgesOffset;
+    private final long[] columnOffsets;
+
+    private MappedSnapshot(FileChannel channel, ByteBuffer[] chunks, PrimitiveGraph graph, int treeEdgeCount,
+                           int componentCount, long checksum, long totalWeight) {
+        this.channel = channel;
+        this.chunks = chunks;
+        this.graph = graph;
+        this.vertices = graph.getVertices();
+        this.edgeCount = graph.getEdgeCount();
+        this.treeEdgeCount = treeEdgeCount;
+        this.componentCount = componentCount;
+        this.checksum = checksum;
+        this.totalWeight = totalWeight;
+        this.treeEdgesOffset = SnapshotFormat.treeEdgesOffset(edgeCount);
+        this.columnOffsets = new long[SnapshotFormat.VERTEX_COLUMNS];
+        for (int column = 0; column < columnOffsets.length; column++) {
+            columnOffsets[column] = SnapshotFormat.columnOffset(edgeCount, treeEdgeCount, vertices, column);
+        }
+    }
+
+    public static MappedSnapshot open(Path path, PrimitiveGraph graph) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < SnapshotFormat.HEADER_BYTES) {
+                throw new IOException("File too small for snapshot header: " + path);
+            }
+
+            ByteBuffer[] chunks = new ByteBuffer[(int) ((size + CHUNK_MASK) >>> CHUNK_SHIFT)];
+            for (int i = 0; i < chunks.length; i++) {
+                long position = (long) i << CHUNK_SHIFT;
+                long length = Math.min(size - position, 1L << CHUNK_SHIFT);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, length)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+
+            ByteBuffer header = chunks[0];
+            if (header.getInt(0) != SnapshotFormat.MAGIC) {
+                throw new IOException("Not an MST snapshot file: " + path);
+            }
+            if (header.getInt(4) != SnapshotFormat.VERSION) {
+                throw new IOException("Unsupported snapshot version: " + header.getInt(4));
+            }
+
+            int vertices = header.getInt(8);
+            int componentCount = header.getInt(12);
+            long edgeCount = header.getLong(16);
+            long treeEdgeCount = header.getLong(24);
+            long checksum = header.getLong(32);
+            long totalWeight = header.getLong(40);
+
+            if (vertices < 0 || edgeCount < 0 || edgeCount > Integer.MAX_VALUE
+                    || treeEdgeCount < 0 || treeEdgeCount > Math.max(vertices - 1, 0)) {
+                throw new IOException("Corrupt snapshot header: " + path);
+            }
+            if (size < SnapshotFormat.fileSize(edgeCount, treeEdgeCount, vertices)) {
+                throw new IOException("Truncated snapshot file: " + path);
+            }
+            if (vertices != graph.getVertices() || edgeCount != graph.getEdgeCount()
+                    || checksum != SnapshotFormat.checksum(graph)) {
+                throw new IOException("Snapshot does not match graph: " + path);
+            }
+
+            return new MappedSnapshot(channel, chunks, graph, (int) treeEdgeCount, componentCount, checksum, totalWeight);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int getVertices() {
+        return vertices;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public int getTreeEdgeCount() {
+        return treeEdgeCount;
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public int getSortedEdgeId(int rank) {
+        return readInt(SnapshotFormat.sortedEdgesOffset() + (long) rank * Integer.BYTES);
+    }
+
+    public int getTreeEdgeId(int index) {
+        return readInt(treeEdgesOffset + (long) index * Integer.BYTES);
+    }
+
+    public int[] getTreeEdgeIds() {
+        int[] result = new int[treeEdgeCount];
+        for (int i = 0; i < treeEdgeCount; i++) {
+            result[i] = getTreeEdgeId(i);
+        }
+        return result;
+    }
+
+    public List<Edge> getMST() {
+        List<Edge> result = new ArrayList<>(treeEdgeCount);
+        for (int i = 0; i < treeEdgeCount; i++) {
+            result.add(graph.toEdge(getTreeEdgeId(i)));
+        }
+        return result;
+    }
+
+    public int getParent(int vertex) {
+        return column(SnapshotFormat.PARENT, vertex);
+    }
+
+    public int getParentEdgeId(int vertex) {
+        return column(SnapshotFormat.PARENT_EDGE, vertex);
+    }
+
+    public int getRoot(int vertex) {
+        return column(SnapshotFormat.ROOT, vertex);
+    }
+
+    public int getEntry(int vertex) {
+        return column(SnapshotFormat.ENTRY, vertex);
+    }
+
+    public int getExit(int vertex) {
+        return getEntry(vertex) + column(SnapshotFormat.SUBTREE_SIZE, vertex);
+    }
+
+    public int getReplacementEdgeId(int vertex) {
+        return column(SnapshotFormat.REPLACEMENT, vertex);
+    }
+
+    public int childOf(int vertex1, int vertex2) {
+        if (vertex1 < 0 || vertex2 < 0 || vertex1 >= vertices || vertex2 >= vertices) {
+            return -1;
+        }
+        if (getParent(vertex1) == vertex2) {
+            return vertex1;
+        }
+        if (getParent(vertex2) == vertex1) {
+            return vertex2;
+        }
+        return -1;
+    }
+
+    public int childOf(Edge edge) {
+        int child = childOf(edge.getSource(), edge.getDestination());
+        return child >= 0 && graph.getWeight(getParentEdgeId(child)) == edge.getWeight() ? child : -1;
+    }
+
+    @Override
+    public boolean isTreeEdge(Edge edge) {
+        return childOf(edge) >= 0;
+    }
+
+    @Override
+    public Edge findTreeEdge(int vertex1, int vertex2) {
+        int child = childOf(vertex1, vertex2);
+        return child < 0 ? null : graph.toEdge(getParentEdgeId(child));
+    }
+
+    @Override
+    public Edge getReplacement(Edge treeEdge) {
+        int child = childOf(treeEdge);
+        if (child < 0) {
+            return null;
+        }
+        int edgeId = getReplacementEdgeId(child);
+        return edgeId < 0 ? null : graph.toEdge(edgeId);
+    }
+
+    private int column(int column, int vertex) {
+        return readInt(columnOffsets[column] + (long) vertex * Integer.BYTES);
+    }
+
+    private int readInt(long offset) {
+        return chunks[(int) (offset >>> CHUNK_SHIFT)].getInt((int) (offset & CHUNK_MASK));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,146 @@
+package com.aitbek.mst.io;
+
+import com.aitbek.mst.algorithm.EdgeOrdering;
+import com.aitbek.mst.algorithm.MSTAlgorithm;
+import com.aitbek.mst.algorithm.ReplacementIndex;
+import com.aitbek.mst.algorithm.RootedTree;
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+public final class SnapshotFormat {
+    public static final int MAGIC = 0x534E534D;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 64;
+
+    public static final int PARENT = 0;
+    public static final int PARENT_EDGE = 1;
+    public static final int ROOT = 2;
+    public static final int ENTRY = 3;
+    public static final int SUBTREE_SIZE = 4;
+    public static final int REPLACEMENT = 5;
+    public static final int VERTEX_COLUMNS = 6;
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private SnapshotFormat() {
+    }
+
+    public static long sortedEdgesOffset() {
+        return HEADER_BYTES;
+    }
+
+    public static long treeEdgesOffset(long edgeCount) {
+        return HEADER_BYTES + edgeCount * Integer.BYTES;
+    }
+
+    public static long columnOffset(long edgeCount, long treeEdgeCount, int vertices, int column) {
+        return treeEdgesOffset(edgeCount) + treeEdgeCount * Integer.BYTES + (long) column * vertices * Integer.BYTES;
+    }
+
+    public static long fileSize(long edgeCount, long treeEdgeCount, int vertices) {
+        return columnOffset(edgeCount, treeEdgeCount, vertices, VERTEX_COLUMNS);
+    }
+
+    public static long checksum(PrimitiveGraph graph) {
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(graph.getVertices());
+        buffer.putInt(graph.getEdgeCount());
+
+        for (int i = 0; i < graph.getEdgeCount(); i++) {
+            if (buffer.remaining() < 3 * Integer.BYTES) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+            buffer.putInt(graph.getSource(i));
+            buffer.putInt(graph.getDestination(i));
+            buffer.putInt(graph.getWeight(i));
+        }
+
+        buffer.flip();
+        crc.update(buffer);
+        return crc.getValue();
+    }
+
+    public static void write(Path path, PrimitiveGraph graph) throws IOException {
+        int vertices = graph.getVertices();
+        int edgeCount = graph.getEdgeCount();
+        int[] order = EdgeOrdering.AUTOMATIC.sort(graph);
+        int[] treeEdgeIds = MSTAlgorithm.buildMST(graph, order);
+        int treeEdgeCount = treeEdgeIds.length;
+        long totalWeight = MSTAlgorithm.calculateMSTWeight(graph, treeEdgeIds);
+
+        List<Edge> treeEdges = new ArrayList<>(treeEdgeCount);
+        for (int edgeId : treeEdgeIds) {
+            treeEdges.add(graph.toEdge(edgeId));
+        }
+        RootedTree tree = new RootedTree(vertices, treeEdges);
+        ReplacementIndex index = new ReplacementIndex(tree, graph, order);
+
+        int[][] columns = new int[VERTEX_COLUMNS][vertices];
+        Arrays.fill(columns[PARENT_EDGE], -1);
+        for (int edgeId : treeEdgeIds) {
+            columns[PARENT_EDGE][tree.childOf(graph.getSource(edgeId), graph.getDestination(edgeId))] = edgeId;
+        }
+        for (int v = 0; v < vertices; v++) {
+            columns[PARENT][v] = tree.getParent(v);
+            columns[ROOT][v] = tree.getRoot(v);
+            columns[ENTRY][v] = tree.getEntry(v);
+            columns[SUBTREE_SIZE][v] = tree.getSubtreeSize(v);
+            columns[REPLACEMENT][v] = index.getReplacementEdgeId(v);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt(vertices);
+            buffer.putInt(tree.getComponentCount());
+            buffer.putLong(edgeCount);
+            buffer.putLong(treeEdgeCount);
+            buffer.putLong(checksum(graph));
+            buffer.putLong(totalWeight);
+            buffer.putLong(0L);
+            buffer.putLong(0L);
+
+            putInts(channel, buffer, order);
+            putInts(channel, buffer, treeEdgeIds);
+            for (int[] column : columns) {
+                putInts(channel, buffer, column);
+            }
+
+            flush(channel, buffer);
+        }
+    }
+
+    private static void putInts(FileChannel channel, ByteBuffer buffer, int[] values) throws IOException {
+        for (int value : values) {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush(channel, buffer);
+            }
+            buffer.putInt(value);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
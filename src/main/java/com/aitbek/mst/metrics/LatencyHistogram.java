@@ -0,0 +1,73 @@
+package com.aitbek.mst.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final LongAdder total;
+    private final AtomicLong max;
+    private volatile long intervalStartNanos;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.total = new LongAdder();
+        this.max = new AtomicLong();
+        this.intervalStartNanos = System.nanoTime();
+    }
+
+    public void record(long valueNanos) {
+        long value = Math.max(valueNanos, 0);
+        counts.incrementAndGet(bucketIndex(value));
+        total.add(value);
+
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    public HistogramSnapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new HistogramSnapshot(copy, total.sum(), max.get(), System.nanoTime() - intervalStartNanos);
+    }
+
+    public HistogramSnapshot snapshotAndReset() {
+        long now = System.nanoTime();
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.getAndSet(i, 0);
+        }
+        long sum = total.sumThenReset();
+        long maxValue = max.getAndSet(0);
+        long interval = now - intervalStartNanos;
+        intervalStartNanos = now;
+        return new HistogramSnapshot(copy, sum, maxValue, interval);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int group = index >>> SUB_BUCKET_BITS;
+        long lower = (long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << (group - 1);
+        return lower + (1L << (group - 1)) - 1;
+    }
+}
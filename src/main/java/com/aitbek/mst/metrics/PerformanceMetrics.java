@@ -3,56 +3,92 @@ package com.aitbek.mst.metrics;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class PerformanceMetrics {
-    private final List<MetricRecord> records;
+    private static final String CSV_HEADER =
+            "Operation,Count,Mean(ms),P50(ms),P90(ms),P99(ms),P999(ms),Max(ms),Throughput(ops/s),Vertices,Edges";
+
+    private final Map<String, OperationStats> operations;
+    private final List<String> order;
 
     public PerformanceMetrics() {
-        this.records = new ArrayList<>();
+        this.operations = new ConcurrentHashMap<>();
+        this.order = new CopyOnWriteArrayList<>();
     }
 
     public void recordOperation(String operation, long durationNanos, int vertices, int edges) {
-        records.add(new MetricRecord(operation, durationNanos, vertices, edges));
+        OperationStats stats = operations.computeIfAbsent(operation, name -> {
+            order.add(name);
+            return new OperationStats();
+        });
+        stats.histogram.record(durationNanos);
+        stats.vertices = vertices;
+        stats.edges = edges;
+    }
+
+    public Map<String, HistogramSnapshot> snapshot() {
+        Map<String, HistogramSnapshot> result = new LinkedHashMap<>();
+        for (String name : order) {
+            result.put(name, operations.get(name).histogram.snapshot());
+        }
+        return result;
+    }
+
+    public Map<String, HistogramSnapshot> snapshotAndReset() {
+        Map<String, HistogramSnapshot> result = new LinkedHashMap<>();
+        for (String name : order) {
+            result.put(name, operations.get(name).histogram.snapshotAndReset());
+        }
+        return result;
     }
 
     public void exportToCSV(String filename) throws IOException {
         try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
-            writer.println("Operation,Duration(ns),Duration(ms),Vertices,Edges");
-            for (MetricRecord record : records) {
-                writer.printf("%s,%d,%.3f,%d,%d%n",
-                        record.operation,
-                        record.durationNanos,
-                        record.durationNanos / 1_000_000.0,
-                        record.vertices,
-                        record.edges);
+            writer.println(CSV_HEADER);
+            for (Map.Entry<String, HistogramSnapshot> entry : snapshot().entrySet()) {
+                OperationStats stats = operations.get(entry.getKey());
+                HistogramSnapshot snapshot = entry.getValue();
+                writer.printf(Locale.ROOT, "%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.1f,%d,%d%n",
+                        entry.getKey(),
+                        snapshot.getCount(),
+                        snapshot.getMean() / 1_000_000.0,
+                        snapshot.getP50() / 1_000_000.0,
+                        snapshot.getP90() / 1_000_000.0,
+                        snapshot.getP99() / 1_000_000.0,
+                        snapshot.getP999() / 1_000_000.0,
+                        snapshot.getMax() / 1_000_000.0,
+                        snapshot.getThroughput(),
+                        stats.vertices,
+                        stats.edges);
             }
         }
     }
 
     public void printSummary() {
         System.out.println("\n=== Performance Metrics ===");
-        for (MetricRecord record : records) {
-            System.out.printf("%s: %.3f ms (vertices: %d, edges: %d)%n",
-                    record.operation,
-                    record.durationNanos / 1_000_000.0,
-                    record.vertices,
-                    record.edges);
+        for (Map.Entry<String, HistogramSnapshot> entry : snapshot().entrySet()) {
+            OperationStats stats = operations.get(entry.getKey());
+            HistogramSnapshot snapshot = entry.getValue();
+            System.out.printf(Locale.ROOT, "%s: %.3f ms p50, %.3f ms p99, %.3f ms max, %d calls (vertices: %d, edges: %d)%n",
+                    entry.getKey(),
+                    snapshot.getP50() / 1_000_000.0,
+                    snapshot.getP99() / 1_000_000.0,
+                    snapshot.getMax() / 1_000_000.0,
+                    snapshot.getCount(),
+                    stats.vertices,
+                    stats.edges);
         }
     }
 
-    private static class MetricRecord {
-        final String operation;
-        final long durationNanos;
-        final int vertices;
-        final int edges;
-
-        MetricRecord(String operation, long durationNanos, int vertices, int edges) {
-            this.operation = operation;
-            this.durationNanos = durationNanos;
-            this.vertices = vertices;
-            this.edges = edges;
-        }
+    private static class OperationStats {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        volatile int vertices;
+        volatile int edges;
     }
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.aitbek.mst.model;
+
+public final class CompactGraph implements PrimitiveGraph {
+    private final int vertices;
+    private final int[] edgeSources;
+    private final int[] edgeDestinations;
+    private final int[] edgeWeights;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] edgeIds;
+
+    private CompactGraph(int vertices, int[] edgeSources, int[] edgeDestinations, int[] edgeWeights) {
+        if (edgeSources.length != edgeDestinations.length || edgeSources.length != edgeWeights.length) {
+            throw new IllegalArgumentException("Edge arrays must have the same length");
+        }
+
+        this.vertices = vertices;
+        this.edgeSources = edgeSources;
+        this.edgeDestinations = edgeDestinations;
+        this.edgeWeights = edgeWeights;
+        this.offsets = new int[vertices + 1];
+
+        int edgeCount = edgeSources.length;
+        for (int i = 0; i < edgeCount; i++) {
+            offsets[checkVertex(edgeSources[i]) + 1]++;
+            offsets[checkVertex(edgeDestinations[i]) + 1]++;
+        }
+        for (int v = 0; v < vertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        this.targets = new int[edgeCount * 2];
+        this.weights = new int[edgeCount * 2];
+        this.edgeIds = new int[edgeCount * 2];
+
+        int[] cursor = new int[vertices];
+        System.arraycopy(offsets, 0, cursor, 0, vertices);
+        for (int i = 0; i < edgeCount; i++) {
+            int source = edgeSources[i];
+            int destination = edgeDestinations[i];
+
+            int slot = cursor[source]++;
+            targets[slot] = destination;
+            weights[slot] = edgeWeights[i];
+            edgeIds[slot] = i;
+
+            slot = cursor[destination]++;
+            targets[slot] = source;
+            weights[slot] = edgeWeights[i];
+            edgeIds[slot] = i;
+        }
+    }
+
+    private int checkVertex(int vertex) {
+        if (vertex < 0 || vertex >= vertices) {
+            throw new IllegalArgumentException("Vertex out of range: " + vertex);
+        }
+        return vertex;
+    }
+
+    public static CompactGraph of(int vertices, int[] sources, int[] destinations, int[] weights) {
+        return new CompactGraph(vertices, sources, destinations, weights);
+    }
+
+    public static CompactGraph from(PrimitiveGraph graph) {
+        int edgeCount = graph.getEdgeCount();
+        int[] sources = new int[edgeCount];
+        int[] destinations = new int[edgeCount];
+        int[] weights = new int[edgeCount];
+
+        for (int i = 0; i < edgeCount; i++) {
+            sources[i] = graph.getSource(i);
+            destinations[i] = graph.getDestination(i);
+            weights[i] = graph.getWeight(i);
+        }
+
+        return new CompactGraph(graph.getVertices(), sources, destinations, weights);
+    }
+
+    @Override
+    public int getVertices() {
+        return vertices;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edgeSources.length;
+    }
+
+    @Override
+    public int getSource(int edgeId) {
+        return edgeSources[edgeId];
+    }
+
+    @Override
+    public int getDestination(int edgeId) {
+        return edgeDestinations[edgeId];
+    }
+
+    @Override
+    public int getWeight(int edgeId) {
+        return edgeWeights[edgeId];
+    }
+
+    public int getDegree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    public int getAdjacencyStart(int vertex) {
+        return offsets[vertex];
+    }
+
+    public int getAdjacencyEnd(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    public int getTarget(int slot) {
+        return targets[slot];
+    }
+
+    public int getSlotWeight(int slot) {
+        return weights[slot];
+    }
+
+    public int getSlotEdgeId(int slot) {
+        return edgeIds[slot];
+    }
+}
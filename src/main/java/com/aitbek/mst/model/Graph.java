@@ -2,37 +2,94 @@ package com.aitbek.mst.model;
 
 import java.util.*;
 
-public class Graph {
+public class Graph implements PrimitiveGraph {
     private final int vertices;
-    private final List<Edge> edges;
-    private final Map<Integer, List<Edge>> adjacencyList;
+    private final PackedEdgeStore edges;
 
     public Graph(int vertices) {
         this.vertices = vertices;
-        this.edges = new ArrayList<>();
-        this.adjacencyList = new HashMap<>();
-        for (int i = 0; i < vertices; i++) {
-            adjacencyList.put(i, new ArrayList<>());
-        }
+        this.edges = new PackedEdgeStore(vertices);
     }
 
     public void addEdge(int source, int destination, int weight) {
-        Edge edge = new Edge(source, destination, weight);
-        edges.add(edge);
-        adjacencyList.get(source).add(edge);
-        adjacencyList.get(destination).add(new Edge(destination, source, weight));
+        edges.add(source, destination, weight);
     }
 
+    @Override
     public int getVertices() {
         return vertices;
     }
 
     public List<Edge> getEdges() {
-        return new ArrayList<>(edges);
+        return new ArrayList<>(edges.asList());
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edges.getEdgeCount();
+    }
+
+    @Override
+    public int getSource(int edgeId) {
+        return edges.getSource(edgeId);
+    }
+
+    @Override
+    public int getDestination(int edgeId) {
+        return edges.getDestination(edgeId);
+    }
+
+    @Override
+    public int getWeight(int edgeId) {
+        return edges.getWeight(edgeId);
+    }
+
+    public List<Edge> getSortedEdges() {
+        return edges.asSortedList();
+    }
+
+    public int getSortedEdgeId(int rank) {
+        return edges.getSortedEdgeId(rank);
+    }
+
+    public int[] getSortedEdgeIds() {
+        return edges.getSortedEdgeIds();
+    }
+
+    public int getDegree(int vertex) {
+        return edges.getDegree(vertex);
+    }
+
+    public int getFirstSlot(int vertex) {
+        return edges.getFirstSlot(vertex);
+    }
+
+    public int getNextSlot(int slot) {
+        return edges.getNextSlot(slot);
+    }
+
+    public int getSlotEdgeId(int slot) {
+        return edges.getSlotEdgeId(slot);
+    }
+
+    public int getSlotTarget(int slot) {
+        return edges.getSlotTarget(slot);
     }
 
     public List<Edge> getAdjacentEdges(int vertex) {
-        return new ArrayList<>(adjacencyList.get(vertex));
+        List<Edge> adjacent = new ArrayList<>(edges.getDegree(vertex));
+        for (int slot = edges.getFirstSlot(vertex); slot >= 0; slot = edges.getNextSlot(slot)) {
+            adjacent.add(new Edge(vertex, edges.getSlotTarget(slot), edges.getWeight(edges.getSlotEdgeId(slot))));
+        }
+        return adjacent;
+    }
+
+    public static Graph from(PrimitiveGraph source) {
+        Graph graph = new Graph(source.getVertices());
+        for (int i = 0; i < source.getEdgeCount(); i++) {
+            graph.addEdge(source.getSource(i), source.getDestination(i), source.getWeight(i));
+        }
+        return graph;
     }
 
     public static Graph createSampleGraph() {
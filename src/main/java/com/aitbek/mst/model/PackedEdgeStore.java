@@ -0,0 +1,216 @@
+package com.aitbek.mst.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+public final class PackedEdgeStore implements PrimitiveGraph {
+    private static final int[] NO_EDGES = new int[0];
+
+    private final int vertices;
+    private long[] endpoints;
+    private int[] weights;
+    private int size;
+    private int[] sorted = NO_EDGES;
+    private int[] firstSlot;
+    private int[] lastSlot;
+    private int[] degrees;
+    private int[] nextSlot;
+
+    public PackedEdgeStore(int vertices) {
+        this(vertices, 16);
+    }
+
+    public PackedEdgeStore(int vertices, int expectedEdges) {
+        this.vertices = vertices;
+        this.endpoints = new long[Math.max(expectedEdges, 1)];
+        this.weights = new int[Math.max(expectedEdges, 1)];
+    }
+
+    public int add(int source, int destination, int weight) {
+        checkVertex(source);
+        checkVertex(destination);
+        if (size == endpoints.length) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, endpoints.length * 2L);
+            if (capacity == size) {
+                throw new IllegalStateException("Edge store is full");
+            }
+            endpoints = Arrays.copyOf(endpoints, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+        endpoints[size] = ((long) source << 32) | (destination & 0xFFFFFFFFL);
+        weights[size] = weight;
+        if (nextSlot != null) {
+            linkSlots(size);
+        }
+        return size++;
+    }
+
+    private void ensureAdjacency() {
+        if (nextSlot != null) {
+            return;
+        }
+        firstSlot = new int[vertices];
+        lastSlot = new int[vertices];
+        degrees = new int[vertices];
+        nextSlot = new int[Math.max(size, 1) * 2];
+        Arrays.fill(firstSlot, -1);
+        for (int edgeId = 0; edgeId < size; edgeId++) {
+            linkSlots(edgeId);
+        }
+    }
+
+    private void linkSlots(int edgeId) {
+        if (edgeId * 2 + 1 >= nextSlot.length) {
+            nextSlot = Arrays.copyOf(nextSlot, (int) Math.min(Integer.MAX_VALUE - 8, nextSlot.length * 2L));
+        }
+        linkSlot(edgeId * 2, getSource(edgeId));
+        linkSlot(edgeId * 2 + 1, getDestination(edgeId));
+    }
+
+    private void linkSlot(int slot, int vertex) {
+        nextSlot[slot] = -1;
+        if (firstSlot[vertex] < 0) {
+            firstSlot[vertex] = slot;
+        } else {
+            nextSlot[lastSlot[vertex]] = slot;
+        }
+        lastSlot[vertex] = slot;
+        degrees[vertex]++;
+    }
+
+    private void checkVertex(int vertex) {
+        if (vertex < 0 || vertex >= vertices) {
+            throw new IllegalArgumentException("Vertex out of range: " + vertex);
+        }
+    }
+
+    @Override
+    public int getVertices() {
+        return vertices;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return size;
+    }
+
+    @Override
+    public int getSource(int edgeId) {
+        return (int) (endpoints[edgeId] >>> 32);
+    }
+
+    @Override
+    public int getDestination(int edgeId) {
+        return (int) endpoints[edgeId];
+    }
+
+    @Override
+    public int getWeight(int edgeId) {
+        return weights[edgeId];
+    }
+
+    public int getDegree(int vertex) {
+        ensureAdjacency();
+        return degrees[vertex];
+    }
+
+    public int getFirstSlot(int vertex) {
+        ensureAdjacency();
+        return firstSlot[vertex];
+    }
+
+    public int getNextSlot(int slot) {
+        return nextSlot[slot];
+    }
+
+    public int getSlotEdgeId(int slot) {
+        return slot >>> 1;
+    }
+
+    public int getSlotTarget(int slot) {
+        int edgeId = slot >>> 1;
+        return (slot & 1) == 0 ? getDestination(edgeId) : getSource(edgeId);
+    }
+
+    public long getSortKey(int edgeId) {
+        return ((long) weights[edgeId] << 32) | edgeId;
+    }
+
+    public int getSortedEdgeId(int rank) {
+        return sortedIds()[rank];
+    }
+
+    public int[] getSortedEdgeIds() {
+        return sortedIds().clone();
+    }
+
+    private int[] sortedIds() {
+        int sortedCount = sorted.length;
+        if (sortedCount < size) {
+            long[] added = new long[size - sortedCount];
+            for (int i = 0; i < added.length; i++) {
+                added[i] = getSortKey(sortedCount + i);
+            }
+            Arrays.sort(added);
+            sorted = merge(sorted, added);
+        }
+        return sorted;
+    }
+
+    private int[] merge(int[] ids, long[] added) {
+        int[] merged = new int[ids.length + added.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < ids.length && j < added.length) {
+            if (added[j] < getSortKey(ids[i])) {
+                merged[k++] = (int) added[j++];
+            } else {
+                merged[k++] = ids[i++];
+            }
+        }
+        while (i < ids.length) {
+            merged[k++] = ids[i++];
+        }
+        while (j < added.length) {
+            merged[k++] = (int) added[j++];
+        }
+        return merged;
+    }
+
+    public List<Edge> asList() {
+        return new EdgeView(this, null, size);
+    }
+
+    public List<Edge> asSortedList() {
+        int[] ids = sortedIds();
+        return new EdgeView(this, ids, ids.length);
+    }
+
+    private static final class EdgeView extends AbstractList<Edge> implements RandomAccess {
+        private final PackedEdgeStore store;
+        private final int[] ids;
+        private final int size;
+
+        EdgeView(PackedEdgeStore store, int[] ids, int size) {
+            this.store = store;
+            this.ids = ids;
+            this.size = size;
+        }
+
+        @Override
+        public Edge get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+            }
+            return store.toEdge(ids == null ? index : ids[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
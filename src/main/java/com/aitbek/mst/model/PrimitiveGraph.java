@@ -0,0 +1,17 @@
+package com.aitbek.mst.model;
+
+public interface PrimitiveGraph {
+    int getVertices();
+
+    int getEdgeCount();
+
+    int getSource(int edgeId);
+
+    int getDestination(int edgeId);
+
+    int getWeight(int edgeId);
+
+    default Edge toEdge(int edgeId) {
+        return new Edge(getSource(edgeId), getDestination(edgeId), getWeight(edgeId));
+    }
+}
@@ -0,0 +1,33 @@
+package com.aitbek.mst.offheap;
+
+public final class OffHeapAccess implements AutoCloseable {
+    private final OffHeapMemory[] pinned;
+    private boolean closed;
+
+    OffHeapAccess(OffHeapMemory... memories) {
+        int acquired = 0;
+        try {
+            for (OffHeapMemory memory : memories) {
+                memory.acquire();
+                acquired++;
+            }
+        } catch (RuntimeException e) {
+            for (int i = 0; i < acquired; i++) {
+                memories[i].release();
+            }
+            throw e;
+        }
+        this.pinned = memories;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (OffHeapMemory memory : pinned) {
+            memory.release();
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.aitbek.mst.offheap;
+
+import com.aitbek.mst.model.PrimitiveGraph;
+
+public final class OffHeapGraph implements AutoCloseable {
+    private static final int RADIX_BITS = 16;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+
+    private final int vertices;
+    private final OffHeapLongArray endpoints;
+    private final OffHeapIntArray weights;
+    private long edgeCount;
+    private OffHeapLongArray offsets;
+    private OffHeapIntArray targets;
+    private OffHeapLongArray slotEdgeIds;
+
+    private OffHeapGraph(int vertices, long edgeCapacity) {
+        if (vertices < 0) {
+            throw new IllegalArgumentException("Vertex count must not be negative: " + vertices);
+        }
+        this.vertices = vertices;
+        this.endpoints = OffHeapLongArray.allocate(edgeCapacity);
+        try {
+            this.weights = OffHeapIntArray.allocate(edgeCapacity);
+        } catch (RuntimeException | OutOfMemoryError e) {
+            endpoints.close();
+            throw e;
+        }
+    }
+
+    public static OffHeapGraph allocate(int vertices, long edgeCapacity) {
+        return new OffHeapGraph(vertices, edgeCapacity);
+    }
+
+    public static OffHeapGraph copyOf(PrimitiveGraph graph) {
+        OffHeapGraph copy = allocate(graph.getVertices(), graph.getEdgeCount());
+        try {
+            for (int e = 0; e < graph.getEdgeCount(); e++) {
+                copy.addEdge(graph.getSource(e), graph.getDestination(e), graph.getWeight(e));
+            }
+        } catch (RuntimeException e) {
+            copy.close();
+            throw e;
+        }
+        return copy;
+    }
+
+    public long addEdge(int source, int destination, int weight) {
+        if (offsets != null) {
+            throw new IllegalStateException("Adjacency already built; graph is read-only");
+        }
+        if (edgeCount == endpoints.length()) {
+            throw new IllegalStateException("Edge capacity exhausted: " + edgeCount);
+        }
+        checkVertex(source);
+        checkVertex(destination);
+
+        endpoints.set(edgeCount, ((long) source << 32) | (destination & 0xFFFFFFFFL));
+        weights.set(edgeCount, weight);
+        return edgeCount++;
+    }
+
+    private void checkVertex(int vertex) {
+        if (vertex < 0 || vertex >= vertices) {
+            throw new IllegalArgumentException("Vertex out of range: " + vertex);
+        }
+    }
+
+    public int getVertices() {
+        return vertices;
+    }
+
+    public long getEdgeCount() {
+        return edgeCount;
+    }
+
+    public long getEdgeCapacity() {
+        return endpoints.length();
+    }
+
+    public int getSource(long edgeId) {
+        return (int) (endpoints.get(edgeId) >>> 32);
+    }
+
+    public int getDestination(long edgeId) {
+        return (int) endpoints.get(edgeId);
+    }
+
+    public int getWeight(long edgeId) {
+        return weights.get(edgeId);
+    }
+
+    public OffHeapAccess open() {
+        if (offsets == null) {
+            return new OffHeapAccess(endpoints.memory(), weights.memory());
+        }
+        return new OffHeapAccess(endpoints.memory(), weights.memory(),
+                offsets.memory(), targets.memory(), slotEdgeIds.memory());
+    }
+
+    public void buildAdjacency() {
+        if (offsets != null) {
+            return;
+        }
+
+        OffHeapLongArray cursor = OffHeapLongArray.allocate(vertices + 1L);
+        OffHeapLongArray starts = null;
+        OffHeapIntArray slotTargets = null;
+        OffHeapLongArray slotIds = null;
+        try (OffHeapAccess access = open()) {
+            for (long e = 0; e < edgeCount; e++) {
+                long packed = endpoints.get(e);
+                int source = (int) (packed >>> 32);
+                int destination = (int) packed;
+                cursor.set(source + 1L, cursor.get(source + 1L) + 1);
+                cursor.set(destination + 1L, cursor.get(destination + 1L) + 1);
+            }
+            for (int v = 0; v < vertices; v++) {
+                cursor.set(v + 1L, cursor.get(v + 1L) + cursor.get(v));
+            }
+
+            starts = cursor.copyOf(vertices + 1L);
+            slotTargets = OffHeapIntArray.allocate(edgeCount * 2);
+            slotIds = OffHeapLongArray.allocate(edgeCount * 2);
+            for (long e = 0; e < edgeCount; e++) {
+                long packed = endpoints.get(e);
+                int source = (int) (packed >>> 32);
+                int destination = (int) packed;
+
+                long slot = cursor.get(source);
+                cursor.set(source, slot + 1);
+                slotTargets.set(slot, destination);
+                slotIds.set(slot, e);
+
+                slot = cursor.get(destination);
+                cursor.set(destination, slot + 1);
+                slotTargets.set(slot, source);
+                slotIds.set(slot, e);
+            }
+
+            offsets = starts;
+            targets = slotTargets;
+            slotEdgeIds = slotIds;
+        } catch (RuntimeException | OutOfMemoryError e) {
+            if (starts != null) {
+                starts.close();
+            }
+            if (slotTargets != null) {
+                slotTargets.close();
+            }
+            if (slotIds != null) {
+                slotIds.close();
+            }
+            throw e;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    public boolean hasAdjacency() {
+        return offsets != null;
+    }
+
+    public long getAdjacencyStart(int vertex) {
+        return adjacency().get(vertex);
+    }
+
+    public long getAdjacencyEnd(int vertex) {
+        return adjacency().get(vertex + 1L);
+    }
+
+    public long getDegree(int vertex) {
+        return getAdjacencyEnd(vertex) - getAdjacencyStart(vertex);
+    }
+
+    public int getTarget(long slot) {
+        adjacency();
+        return targets.get(slot);
+    }
+
+    public long getSlotEdgeId(long slot) {
+        adjacency();
+        return slotEdgeIds.get(slot);
+    }
+
+    private OffHeapLongArray adjacency() {
+        if (offsets == null) {
+            throw new IllegalStateException("Adjacency not built");
+        }
+        return offsets;
+    }
+
+    public OffHeapLongArray sortEdgeIds() {
+        try (OffHeapAccess access = open()) {
+            return sortedEdgeIds();
+        }
+    }
+
+    private OffHeapLongArray sortedEdgeIds() {
+        long[] low = new long[BUCKETS];
+        long[] high = new long[BUCKETS];
+        for (long e = 0; e < edgeCount; e++) {
+            int key = weights.get(e) ^ Integer.MIN_VALUE;
+            low[key & (BUCKETS - 1)]++;
+            high[key >>> RADIX_BITS]++;
+        }
+
+        OffHeapLongArray ids = OffHeapLongArray.allocate(edgeCount);
+        try {
+            for (long e = 0; e < edgeCount; e++) {
+                ids.set(e, e);
+            }
+            ids = radixPass(ids, low, 0);
+            ids = radixPass(ids, high, RADIX_BITS);
+        } catch (RuntimeException | OutOfMemoryError e) {
+            ids.close();
+            throw e;
+        }
+        return ids;
+    }
+
+    private OffHeapLongArray radixPass(OffHeapLongArray source, long[] counts, int shift) {
+        long position = 0;
+        for (int digit = 0; digit < BUCKETS; digit++) {
+            if (counts[digit] == edgeCount) {
+                return source;
+            }
+            long count = counts[digit];
+            counts[digit] = position;
+            position += count;
+        }
+
+        OffHeapLongArray target = OffHeapLongArray.allocate(edgeCount);
+        try {
+            for (long i = 0; i < edgeCount; i++) {
+                long edgeId = source.get(i);
+                int digit = ((weights.get(edgeId) ^ Integer.MIN_VALUE) >>> shift) & (BUCKETS - 1);
+                target.set(counts[digit]++, edgeId);
+            }
+        } catch (RuntimeException e) {
+            target.close();
+            throw e;
+        }
+        source.close();
+        return target;
+    }
+
+    @Override
+    public void close() {
+        endpoints.close();
+        weights.close();
+        if (offsets != null) {
+            offsets.close();
+            targets.close();
+            slotEdgeIds.close();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.aitbek.mst.offheap;
+
+public final class OffHeapIntArray implements AutoCloseable {
+    private final OffHeapMemory memory;
+    private final long length;
+
+    private OffHeapIntArray(long length, int chunkShift) {
+        this.memory = new OffHeapMemory(length * Integer.BYTES, chunkShift);
+        this.length = length;
+    }
+
+    public static OffHeapIntArray allocate(long length) {
+        return allocate(length, OffHeapMemory.DEFAULT_CHUNK_SHIFT);
+    }
+
+    static OffHeapIntArray allocate(long length, int chunkShift) {
+        return new OffHeapIntArray(length, chunkShift);
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public int get(long index) {
+        return memory.getInt(checkIndex(index) * Integer.BYTES);
+    }
+
+    public void set(long index, int value) {
+        memory.putInt(checkIndex(index) * Integer.BYTES, value);
+    }
+
+    public OffHeapIntArray copyOf(long newLength) {
+        OffHeapIntArray copy = allocate(newLength);
+        try {
+            long shared = Math.min(length, newLength);
+            for (long i = 0; i < shared; i++) {
+                copy.set(i, get(i));
+            }
+        } catch (RuntimeException e) {
+            copy.close();
+            throw e;
+        }
+        return copy;
+    }
+
+    public OffHeapAccess open() {
+        return new OffHeapAccess(memory);
+    }
+
+    OffHeapMemory memory() {
+        return memory;
+    }
+
+    public boolean isOpen() {
+        return memory.isOpen();
+    }
+
+    private long checkIndex(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+        }
+        return index;
+    }
+
+    @Override
+    public void close() {
+        memory.close();
+    }
+}
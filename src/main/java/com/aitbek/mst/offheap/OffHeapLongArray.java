@@ -0,0 +1,69 @@
+package com.aitbek.mst.offheap;
+
+public final class OffHeapLongArray implements AutoCloseable {
+    private final OffHeapMemory memory;
+    private final long length;
+
+    private OffHeapLongArray(long length, int chunkShift) {
+        this.memory = new OffHeapMemory(length * Long.BYTES, chunkShift);
+        this.length = length;
+    }
+
+    public static OffHeapLongArray allocate(long length) {
+        return allocate(length, OffHeapMemory.DEFAULT_CHUNK_SHIFT);
+    }
+
+    static OffHeapLongArray allocate(long length, int chunkShift) {
+        return new OffHeapLongArray(length, chunkShift);
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public long get(long index) {
+        return memory.getLong(checkIndex(index) * Long.BYTES);
+    }
+
+    public void set(long index, long value) {
+        memory.putLong(checkIndex(index) * Long.BYTES, value);
+    }
+
+    public OffHeapLongArray copyOf(long newLength) {
+        OffHeapLongArray copy = allocate(newLength);
+        try {
+            long shared = Math.min(length, newLength);
+            for (long i = 0; i < shared; i++) {
+                copy.set(i, get(i));
+            }
+        } catch (RuntimeException e) {
+            copy.close();
+            throw e;
+        }
+        return copy;
+    }
+
+    public OffHeapAccess open() {
+        return new OffHeapAccess(memory);
+    }
+
+    OffHeapMemory memory() {
+        return memory;
+    }
+
+    public boolean isOpen() {
+        return memory.isOpen();
+    }
+
+    private long checkIndex(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+        }
+        return index;
+    }
+
+    @Override
+    public void close() {
+        memory.close();
+    }
+}
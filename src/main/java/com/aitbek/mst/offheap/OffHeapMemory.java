@@ -0,0 +1,148 @@
+package com.aitbek.mst.offheap;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class OffHeapMemory implements AutoCloseable {
+    static final int DEFAULT_CHUNK_SHIFT = 30;
+
+    private static final int CLOSED = Integer.MIN_VALUE;
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe;
+        Method invokeCleaner;
+        try {
+            Class<?> type = Class.forName("sun.misc.Unsafe");
+            Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new ExceptionInInitializerError(
+                    new UnsupportedOperationException("Off-heap memory needs sun.misc.Unsafe.invokeCleaner to free "
+                            + "direct buffers explicitly", e));
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final long bytes;
+    private final int chunkShift;
+    private final long chunkMask;
+    private final ByteBuffer[] chunks;
+    private final AtomicInteger scopes = new AtomicInteger();
+    private volatile boolean closed;
+
+    OffHeapMemory(long bytes, int chunkShift) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Size must not be negative: " + bytes);
+        }
+        this.bytes = bytes;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+
+        ByteBuffer[] allocated = new ByteBuffer[(int) ((bytes + chunkMask) >>> chunkShift)];
+        try {
+            for (int i = 0; i < allocated.length; i++) {
+                long length = Math.min(bytes - ((long) i << chunkShift), 1L << chunkShift);
+                allocated[i] = ByteBuffer.allocateDirect((int) length).order(ByteOrder.nativeOrder());
+            }
+        } catch (OutOfMemoryError e) {
+            release(allocated);
+            throw e;
+        }
+        this.chunks = allocated;
+    }
+
+    long size() {
+        return bytes;
+    }
+
+    int getInt(long offset) {
+        checkOpen();
+        return chunk(offset).getInt((int) (offset & chunkMask));
+    }
+
+    void putInt(long offset, int value) {
+        checkOpen();
+        chunk(offset).putInt((int) (offset & chunkMask), value);
+    }
+
+    long getLong(long offset) {
+        checkOpen();
+        return chunk(offset).getLong((int) (offset & chunkMask));
+    }
+
+    void putLong(long offset, long value) {
+        checkOpen();
+        chunk(offset).putLong((int) (offset & chunkMask), value);
+    }
+
+    void acquire() {
+        if (scopes.getAndIncrement() < 0) {
+            scopes.decrementAndGet();
+            throw new IllegalStateException("Off-heap memory is closed");
+        }
+    }
+
+    void release() {
+        scopes.decrementAndGet();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Off-heap memory is closed");
+        }
+    }
+
+    private ByteBuffer chunk(long offset) {
+        return chunks[(int) (offset >>> chunkShift)];
+    }
+
+    boolean isOpen() {
+        return !closed;
+    }
+
+    @Override
+    public void close() {
+        int active;
+        do {
+            active = scopes.get();
+            if (active < 0) {
+                return;
+            }
+        } while (!scopes.compareAndSet(active, active | CLOSED));
+
+        while (scopes.get() != CLOSED) {
+            Thread.onSpinWait();
+        }
+        closed = true;
+        release(chunks);
+    }
+
+    private static void release(ByteBuffer[] buffers) {
+        IllegalStateException failure = null;
+        for (ByteBuffer buffer : buffers) {
+            if (buffer != null) {
+                try {
+                    INVOKE_CLEANER.invoke(UNSAFE, buffer);
+                } catch (ReflectiveOperationException e) {
+                    if (failure == null) {
+                        failure = new IllegalStateException("Failed to free off-heap memory", e);
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.aitbek.mst.server;
+
+import com.aitbek.mst.io.MappedGraph;
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.Graph;
+import com.aitbek.mst.model.PrimitiveGraph;
+import com.aitbek.mst.service.MSTService;
+import com.aitbek.mst.service.MSTSnapshot;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class MSTServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicReference<MSTService> service;
+    private final Object writeLock = new Object();
+    private Closeable resource;
+
+    public MSTServer(int port, Graph graph) throws IOException {
+        this(port, new MSTService(graph));
+    }
+
+    public MSTServer(int port, MSTService initial) throws IOException {
+        this(port, initial, null);
+    }
+
+    public MSTServer(int port, MSTService initial, Closeable resource) throws IOException {
+        this.service = new AtomicReference<>(initial);
+        this.resource = resource;
+        this.executor = newRequestExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.setExecutor(executor);
+
+        server.createContext("/graph", exchange -> handle(exchange, "POST", this::loadGraph));
+        server.createContext("/mst", exchange -> handle(exchange, "GET", this::mst));
+        server.createContext("/weight", exchange -> handle(exchange, "GET", this::weight));
+        server.createContext("/replacement", exchange -> handle(exchange, "GET", this::replacement));
+        server.createContext("/replacements", exchange -> handle(exchange, "POST", this::replacements));
+        server.createContext("/remove", exchange -> handle(exchange, "POST", this::remove));
+    }
+
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public MSTSnapshot snapshot() {
+        return service.get().snapshot();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        Closeable previous;
+        synchronized (writeLock) {
+            previous = resource;
+            resource = null;
+        }
+        if (previous != null) {
+            try {
+                previous.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private interface Handler {
+        String apply(HttpExchange exchange) throws IOException;
+    }
+
+    private void handle(HttpExchange exchange, String method, Handler handler) throws IOException {
+        int status = 200;
+        String body;
+        try {
+            if (!method.equals(exchange.getRequestMethod())) {
+                status = 405;
+                body = error("Method not allowed: " + exchange.getRequestMethod());
+            } else {
+                body = handler.apply(exchange);
+            }
+        } catch (IllegalArgumentException e) {
+            status = 400;
+            body = error(e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            status = 500;
+            body = error(e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type",
+                "/replacements".equals(exchange.getHttpContext().getPath()) ? "application/x-ndjson" : "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String loadGraph(HttpExchange exchange) throws IOException {
+        String path = queryParameters(exchange).get("path");
+        if (path == null) {
+            return publish(parseGraph(readLines(exchange)), null);
+        }
+
+        MappedGraph mapped = MappedGraph.open(Path.of(path));
+        try {
+            return publish(mapped, mapped);
+        } catch (RuntimeException | Error e) {
+            mapped.close();
+            throw e;
+        }
+    }
+
+    private String publish(PrimitiveGraph graph, Closeable owner) throws IOException {
+        Closeable previous;
+        String summary;
+        synchronized (writeLock) {
+            service.set(new MSTService(graph, snapshot().getVersion() + 1));
+            previous = resource;
+            resource = owner;
+            summary = summary(snapshot());
+        }
+        if (previous != null) {
+            previous.close();
+        }
+        return summary;
+    }
+
+    private String mst(HttpExchange exchange) {
+        MSTSnapshot snapshot = snapshot();
+        StringBuilder json = new StringBuilder(64 + snapshot.getMST().size() * 16);
+        json.append("{\"version\":").append(snapshot.getVersion())
+                .append(",\"vertices\":").append(snapshot.getVertices())
+                .append(",\"totalWeight\":").append(snapshot.getTotalWeight())
+                .append(",\"edges\":[");
+        List<Edge> mst = snapshot.getMST();
+        for (int i = 0; i < mst.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendEdge(json, mst.get(i));
+        }
+        return json.append("]}\n").toString();
+    }
+
+    private String weight(HttpExchange exchange) {
+        return summary(snapshot());
+    }
+
+    private String replacement(HttpExchange exchange) {
+        Map<String, String> parameters = queryParameters(exchange);
+        String query = parameters.getOrDefault("source", "") + " " + parameters.getOrDefault("destination", "")
+                + (parameters.containsKey("weight") ? " " + parameters.get("weight") : "");
+        MSTSnapshot snapshot = snapshot();
+        return answer(snapshot, query.trim(), new StringBuilder()).append('\n').toString();
+    }
+
+    private String replacements(HttpExchange exchange) throws IOException {
+        MSTSnapshot snapshot = snapshot();
+        StringBuilder out = new StringBuilder();
+        for (String line : readLines(exchange)) {
+            try {
+                answer(snapshot, line, out);
+            } catch (IllegalArgumentException e) {
+                out.append("{\"version\":").append(snapshot.getVersion())
+                        .append(",\"query\":\"").append(escape(line))
+                        .append("\",\"error\":\"").append(escape(e.getMessage())).append("\"}");
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    private String remove(HttpExchange exchange) throws IOException {
+        List<String> lines = readLines(exchange);
+        MSTSnapshot before = snapshot();
+        List<Edge> removals = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            removals.add(resolveEdge(before, line));
+        }
+
+        int[] removed = new int[1];
+        MSTSnapshot after;
+        synchronized (writeLock) {
+            after = service.get().update(updater -> {
+                for (Edge edge : removals) {
+                    if (edge != null && updater.removeEdge(edge)) {
+                        removed[0]++;
+                    }
+                }
+            });
+        }
+
+        return "{\"version\":" + after.getVersion()
+                + ",\"removed\":" + removed[0]
+                + ",\"totalWeight\":" + after.getTotalWeight()
+                + ",\"mstEdges\":" + after.getMST().size() + "}\n";
+    }
+
+    private StringBuilder answer(MSTSnapshot snapshot, String line, StringBuilder json) {
+        Edge edge = resolveEdge(snapshot, line);
+        json.append("{\"version\":").append(snapshot.getVersion()).append(",\"query\":\"")
+                .append(escape(line)).append("\",\"edge\":");
+        if (edge == null || !snapshot.isTreeEdge(edge)) {
+            json.append(edge == null ? "null" : edgeJson(edge)).append(",\"treeEdge\":false,\"replacement\":null}");
+            return json;
+        }
+
+        Edge replacement = snapshot.findReplacementEdge(edge);
+        json.append(edgeJson(edge)).append(",\"treeEdge\":true,\"replacement\":")
+                .append(replacement == null ? "null" : edgeJson(replacement))
+                .append(",\"newWeight\":")
+                .append(snapshot.getTotalWeight() - edge.getWeight() + (replacement == null ? 0 : replacement.getWeight()))
+                .append('}');
+        return json;
+    }
+
+    private Edge resolveEdge(MSTSnapshot snapshot, String line) {
+        String[] tokens = line.trim().split("[\\s,]+");
+        if (tokens.length < 2 || tokens.length > 3) {
+            throw new IllegalArgumentException("Expected 'source destination [weight]' but got: " + line);
+        }
+
+        int source = Integer.parseInt(tokens[0]);
+        int destination = Integer.parseInt(tokens[1]);
+        if (source < 0 || destination < 0 || source >= snapshot.getVertices() || destination >= snapshot.getVertices()) {
+            throw new IllegalArgumentException("Vertex out of range: " + line);
+        }
+        if (tokens.length == 3) {
+            return new Edge(source, destination, Integer.parseInt(tokens[2]));
+        }
+        return snapshot.findTreeEdge(source, destination);
+    }
+
+    static Graph parseGraph(List<String> lines) {
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("Graph body must start with the vertex count");
+        }
+
+        Graph graph = new Graph(Integer.parseInt(lines.get(0).trim()));
+        for (int i = 1; i < lines.size(); i++) {
+            String[] tokens = lines.get(i).trim().split("[\\s,]+");
+            if (tokens.length != 3) {
+                throw new IllegalArgumentException("Expected 'source destination weight' but got: " + lines.get(i));
+            }
+            int source = Integer.parseInt(tokens[0]);
+            int destination = Integer.parseInt(tokens[1]);
+            if (source < 0 || destination < 0 || source >= graph.getVertices() || destination >= graph.getVertices()) {
+                throw new IllegalArgumentException("Vertex out of range: " + lines.get(i));
+            }
+            graph.addEdge(source, destination, Integer.parseInt(tokens[2]));
+        }
+        return graph;
+    }
+
+    private static List<String> readLines(HttpExchange exchange) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+
+    private static Map<String, String> queryParameters(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            int split = pair.indexOf('=');
+            if (split > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, split), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(split + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private static String summary(MSTSnapshot snapshot) {
+        return "{\"version\":" + snapshot.getVersion()
+                + ",\"vertices\":" + snapshot.getVertices()
+                + ",\"edges\":" + snapshot.getEdgeCount()
+                + ",\"mstEdges\":" + snapshot.getMST().size()
+                + ",\"totalWeight\":" + snapshot.getTotalWeight() + "}\n";
+    }
+
+    private static String edgeJson(Edge edge) {
+        return appendEdge(new StringBuilder(), edge).toString();
+    }
+
+    private static StringBuilder appendEdge(StringBuilder json, Edge edge) {
+        return json.append('[').append(edge.getSource()).append(',')
+                .append(edge.getDestination()).append(',')
+                .append(edge.getWeight()).append(']');
+    }
+
+    private static String error(String message) {
+        return "{\"error\":\"" + escape(message) + "\"}\n";
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
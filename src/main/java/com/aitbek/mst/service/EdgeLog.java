@@ -0,0 +1,368 @@
+package com.aitbek.mst.service;
+
+import com.aitbek.mst.algorithm.EdgeOrdering;
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntUnaryOperator;
+
+final class EdgeLog {
+    private static final int UNLINKED = -2;
+
+    private final PrimitiveGraph base;
+    private final int baseCount;
+    private final IntUnaryOperator baseOrder;
+    private final AtomicReference<SortedOrder> sorted;
+    private int[] sources;
+    private int[] destinations;
+    private int[] weights;
+    private int edgeCount;
+    private int[] removed;
+    private int removedCount;
+    private int[] buckets;
+    private int[] next;
+    private int linkedCount;
+
+    EdgeLog(PrimitiveGraph base) {
+        this(base, null);
+    }
+
+    EdgeLog(PrimitiveGraph base, IntUnaryOperator baseOrder) {
+        this.base = base;
+        this.baseCount = base.getEdgeCount();
+        this.baseOrder = baseOrder;
+        this.sorted = new AtomicReference<>(new SortedOrder(new int[0]));
+        this.sources = new int[16];
+        this.destinations = new int[16];
+        this.weights = new int[16];
+        this.edgeCount = baseCount;
+        this.removed = new int[16];
+    }
+
+    int getEdgeCount() {
+        return edgeCount;
+    }
+
+    int getRemovedCount() {
+        return removedCount;
+    }
+
+    int getRemoved(int index) {
+        return removed[index];
+    }
+
+    int getSource(int edgeId) {
+        return edgeId < baseCount ? base.getSource(edgeId) : sources[edgeId - baseCount];
+    }
+
+    int getDestination(int edgeId) {
+        return edgeId < baseCount ? base.getDestination(edgeId) : destinations[edgeId - baseCount];
+    }
+
+    int getWeight(int edgeId) {
+        return edgeId < baseCount ? base.getWeight(edgeId) : weights[edgeId - baseCount];
+    }
+
+    View view() {
+        return new View(this, sources, destinations, weights, edgeCount, removed, removedCount);
+    }
+
+    int append(int source, int destination, int weight) {
+        int slot = edgeCount - baseCount;
+        if (slot == sources.length) {
+            int capacity = sources.length * 2;
+            sources = Arrays.copyOf(sources, capacity);
+            destinations = Arrays.copyOf(destinations, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+        sources[slot] = source;
+        destinations[slot] = destination;
+        weights[slot] = weight;
+
+        int edgeId = edgeCount++;
+        link(edgeId);
+        return edgeId;
+    }
+
+    void remove(int edgeId) {
+        unlink(edgeId);
+        if (removedCount == removed.length) {
+            removed = Arrays.copyOf(removed, removedCount * 2);
+        }
+        removed[removedCount++] = edgeId;
+    }
+
+    void rollback(int edgeMark, int removedMark) {
+        int batchRemovedCount = removedCount;
+        removedCount = removedMark;
+        for (int i = removedMark; i < batchRemovedCount; i++) {
+            if (removed[i] < edgeMark) {
+                link(removed[i]);
+            }
+        }
+        for (int edgeId = edgeMark; edgeId < edgeCount; edgeId++) {
+            remove(edgeId);
+        }
+    }
+
+    int find(int source, int destination, int weight) {
+        ensureIndex();
+        int found = -1;
+        for (int edgeId = buckets[bucket(source, destination, weight)]; edgeId >= 0; edgeId = next[edgeId]) {
+            if (getWeight(edgeId) == weight && (found < 0 || edgeId < found)
+                    && (getSource(edgeId) == source && getDestination(edgeId) == destination
+                    || getSource(edgeId) == destination && getDestination(edgeId) == source)) {
+                found = edgeId;
+            }
+        }
+        return found;
+    }
+
+    private void ensureIndex() {
+        if (buckets != null) {
+            return;
+        }
+        boolean[] dead = new boolean[edgeCount];
+        for (int i = 0; i < removedCount; i++) {
+            dead[removed[i]] = true;
+        }
+        next = new int[Math.max(16, edgeCount)];
+        Arrays.fill(next, UNLINKED);
+        buckets = new int[16];
+        Arrays.fill(buckets, -1);
+        for (int edgeId = 0; edgeId < edgeCount; edgeId++) {
+            if (!dead[edgeId]) {
+                link(edgeId);
+            }
+        }
+    }
+
+    private void link(int edgeId) {
+        if (buckets == null) {
+            return;
+        }
+        if (edgeId >= next.length) {
+            int oldLength = next.length;
+            next = Arrays.copyOf(next, Math.max(edgeId + 1, oldLength * 2));
+            Arrays.fill(next, oldLength, next.length, UNLINKED);
+        }
+        if (linkedCount >= buckets.length) {
+            rehash(buckets.length * 2);
+        }
+        int bucket = bucket(getSource(edgeId), getDestination(edgeId), getWeight(edgeId));
+        next[edgeId] = buckets[bucket];
+        buckets[bucket] = edgeId;
+        linkedCount++;
+    }
+
+    private void unlink(int edgeId) {
+        if (buckets == null || edgeId >= next.length || next[edgeId] == UNLINKED) {
+            return;
+        }
+        int bucket = bucket(getSource(edgeId), getDestination(edgeId), getWeight(edgeId));
+        if (buckets[bucket] == edgeId) {
+            buckets[bucket] = next[edgeId];
+        } else {
+            int previous = buckets[bucket];
+            while (next[previous] != edgeId) {
+                previous = next[previous];
+            }
+            next[previous] = next[edgeId];
+        }
+        next[edgeId] = UNLINKED;
+        linkedCount--;
+    }
+
+    private void rehash(int size) {
+        int[] linked = new int[linkedCount];
+        int count = 0;
+        for (int edgeId = 0; edgeId < next.length; edgeId++) {
+            if (next[edgeId] != UNLINKED) {
+                linked[count++] = edgeId;
+            }
+        }
+        buckets = new int[size];
+        Arrays.fill(buckets, -1);
+        for (int edgeId : linked) {
+            int bucket = bucket(getSource(edgeId), getDestination(edgeId), getWeight(edgeId));
+            next[edgeId] = buckets[bucket];
+            buckets[bucket] = edgeId;
+        }
+    }
+
+    private int bucket(int source, int destination, int weight) {
+        long hash = Math.min(source, destination) * 0x9E3779B97F4A7C15L
+                + Math.max(source, destination) * 0xC2B2AE3D27D4EB4FL
+                + weight * 0x165667B19E3779F9L;
+        hash ^= hash >>> 31;
+        return (int) hash & (buckets.length - 1);
+    }
+
+    private static final class SortedOrder {
+        private final int[] edgeIds;
+
+        SortedOrder(int[] edgeIds) {
+            this.edgeIds = edgeIds;
+        }
+    }
+
+    static final class View implements PrimitiveGraph {
+        private final EdgeLog log;
+        private final int[] sources;
+        private final int[] destinations;
+        private final int[] weights;
+        private final int edgeCount;
+        private final int[] removed;
+        private final int removedCount;
+
+        private View(EdgeLog log, int[] sources, int[] destinations, int[] weights, int edgeCount,
+                     int[] removed, int removedCount) {
+            this.log = log;
+            this.sources = sources;
+            this.destinations = destinations;
+            this.weights = weights;
+            this.edgeCount = edgeCount;
+            this.removed = removed;
+            this.removedCount = removedCount;
+        }
+
+        @Override
+        public int getVertices() {
+            return log.base.getVertices();
+        }
+
+        @Override
+        public int getEdgeCount() {
+            return edgeCount;
+        }
+
+        @Override
+        public int getSource(int edgeId) {
+            return edgeId < log.baseCount ? log.base.getSource(edgeId) : sources[edgeId - log.baseCount];
+        }
+
+        @Override
+        public int getDestination(int edgeId) {
+            return edgeId < log.baseCount ? log.base.getDestination(edgeId) : destinations[edgeId - log.baseCount];
+        }
+
+        @Override
+        public int getWeight(int edgeId) {
+            return edgeId < log.baseCount ? log.base.getWeight(edgeId) : weights[edgeId - log.baseCount];
+        }
+
+        int getAliveCount() {
+            return edgeCount - removedCount;
+        }
+
+        int[] aliveEdgeIds() {
+            return alive(identity());
+        }
+
+        int[] sortedAliveEdgeIds() {
+            SortedOrder order = log.sorted.get();
+            if (order.edgeIds.length < log.baseCount && log.baseOrder != null) {
+                order = seed(order);
+            }
+            int tailStart = Math.min(order.edgeIds.length, edgeCount);
+            int[] tail = EdgeOrdering.AUTOMATIC.sort(new PrimitiveGraph() {
+                @Override
+                public int getVertices() {
+                    return View.this.getVertices();
+                }
+
+                @Override
+                public int getEdgeCount() {
+                    return edgeCount - tailStart;
+                }
+
+                @Override
+                public int getSource(int edgeId) {
+                    return View.this.getSource(tailStart + edgeId);
+                }
+
+                @Override
+                public int getDestination(int edgeId) {
+                    return View.this.getDestination(tailStart + edgeId);
+                }
+
+                @Override
+                public int getWeight(int edgeId) {
+                    return View.this.getWeight(tailStart + edgeId);
+                }
+            });
+
+            int[] merged = new int[edgeCount];
+            int count = 0;
+            int t = 0;
+            for (int edgeId : order.edgeIds) {
+                if (edgeId >= edgeCount) {
+                    continue;
+                }
+                while (t < tail.length && sortKey(tailStart + tail[t]) < sortKey(edgeId)) {
+                    merged[count++] = tailStart + tail[t++];
+                }
+                merged[count++] = edgeId;
+            }
+            while (t < tail.length) {
+                merged[count++] = tailStart + tail[t++];
+            }
+
+            SortedOrder current = order;
+            while (current.edgeIds.length < edgeCount
+                    && !log.sorted.compareAndSet(current, new SortedOrder(merged))) {
+                current = log.sorted.get();
+            }
+            return alive(merged);
+        }
+
+        private SortedOrder seed(SortedOrder order) {
+            int[] edgeIds = new int[log.baseCount];
+            for (int rank = 0; rank < edgeIds.length; rank++) {
+                edgeIds[rank] = log.baseOrder.applyAsInt(rank);
+                if (edgeIds[rank] < 0 || edgeIds[rank] >= log.baseCount
+                        || rank > 0 && sortKey(edgeIds[rank - 1]) >= sortKey(edgeIds[rank])) {
+                    throw new IllegalStateException("Persisted edge order is not sorted at rank " + rank);
+                }
+            }
+
+            SortedOrder seeded = new SortedOrder(edgeIds);
+            SortedOrder current = order;
+            while (current.edgeIds.length < edgeIds.length && !log.sorted.compareAndSet(current, seeded)) {
+                current = log.sorted.get();
+            }
+            return seeded;
+        }
+
+        private long sortKey(int edgeId) {
+            return ((long) getWeight(edgeId) << 32) | edgeId;
+        }
+
+        private int[] identity() {
+            int[] edgeIds = new int[edgeCount];
+            for (int i = 0; i < edgeCount; i++) {
+                edgeIds[i] = i;
+            }
+            return edgeIds;
+        }
+
+        private int[] alive(int[] edgeIds) {
+            if (removedCount == 0) {
+                return edgeIds;
+            }
+            boolean[] dead = new boolean[edgeCount];
+            for (int i = 0; i < removedCount; i++) {
+                dead[removed[i]] = true;
+            }
+            int[] result = new int[getAliveCount()];
+            int count = 0;
+            for (int edgeId : edgeIds) {
+                if (!dead[edgeId]) {
+                    result[count++] = edgeId;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.aitbek.mst.service;
+
+import com.aitbek.mst.algorithm.DynamicMST;
+import com.aitbek.mst.algorithm.MSTAlgorithm;
+import com.aitbek.mst.algorithm.ReplacementQueries;
+import com.aitbek.mst.io.MappedSnapshot;
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+
+public class MSTService {
+    private final Object writeLock = new Object();
+    private final AtomicReference<MSTSnapshot> current;
+    private final EdgeLog log;
+    private int[] initialTreeEdgeIds;
+    private DynamicMST dynamic;
+
+    public MSTService(PrimitiveGraph graph) {
+        this(graph, MSTAlgorithm.buildMST(graph), null);
+    }
+
+    public MSTService(PrimitiveGraph graph, long initialVersion) {
+        this(graph, MSTAlgorithm.buildMST(graph), null, initialVersion);
+    }
+
+    public MSTService(PrimitiveGraph graph, int[] treeEdgeIds, ReplacementQueries queries) {
+        this(graph, treeEdgeIds, queries, 0);
+    }
+
+    public MSTService(PrimitiveGraph graph, int[] treeEdgeIds, ReplacementQueries queries, long initialVersion) {
+        this(graph, treeEdgeIds, queries, null, initialVersion);
+    }
+
+    public MSTService(PrimitiveGraph graph, MappedSnapshot snapshot) {
+        this(graph, snapshot, 0);
+    }
+
+    public MSTService(PrimitiveGraph graph, MappedSnapshot snapshot, long initialVersion) {
+        this(graph, snapshot.getTreeEdgeIds(), snapshot, snapshot::getSortedEdgeId, initialVersion);
+    }
+
+    private MSTService(PrimitiveGraph graph, int[] treeEdgeIds, ReplacementQueries queries,
+                       IntUnaryOperator sortedEdgeIds, long initialVersion) {
+        this.log = new EdgeLog(graph, sortedEdgeIds);
+        this.initialTreeEdgeIds = treeEdgeIds.clone();
+        Arrays.sort(initialTreeEdgeIds);
+        this.current = new AtomicReference<>(new MSTSnapshot(initialVersion, log.view(), initialTreeEdgeIds,
+                MSTAlgorithm.calculateMSTWeight(graph, initialTreeEdgeIds), queries));
+    }
+
+    public MSTSnapshot snapshot() {
+        return current.get();
+    }
+
+    public MSTSnapshot insertEdge(int source, int destination, int weight) {
+        return update(updater -> updater.insertEdge(source, destination, weight));
+    }
+
+    public MSTSnapshot removeEdge(Edge edge) {
+        return update(updater -> updater.removeEdge(edge));
+    }
+
+    public MSTSnapshot update(Consumer<Updater> changes) {
+        synchronized (writeLock) {
+            if (dynamic == null) {
+                dynamic = DynamicMST.from(log.view(), initialTreeEdgeIds);
+                initialTreeEdgeIds = null;
+            }
+
+            int edgeMark = log.getEdgeCount();
+            int removedMark = log.getRemovedCount();
+            Updater updater = new Updater();
+            try {
+                changes.accept(updater);
+            } catch (RuntimeException | Error e) {
+                rollback(edgeMark, removedMark);
+                throw e;
+            } finally {
+                updater.open = false;
+            }
+
+            MSTSnapshot previous = current.get();
+            if (!updater.changed) {
+                return previous;
+            }
+            MSTSnapshot next = new MSTSnapshot(previous.getVersion() + 1, log.view(), dynamic.getTreeEdgeIds(),
+                    dynamic.getTotalWeight(), null);
+            current.set(next);
+            return next;
+        }
+    }
+
+    private void rollback(int edgeMark, int removedMark) {
+        boolean[] insertedRemoved = new boolean[log.getEdgeCount() - edgeMark];
+        for (int i = removedMark; i < log.getRemovedCount(); i++) {
+            int edgeId = log.getRemoved(i);
+            if (edgeId < edgeMark) {
+                dynamic.restoreEdge(edgeId);
+            } else {
+                insertedRemoved[edgeId - edgeMark] = true;
+            }
+        }
+        for (int edgeId = edgeMark; edgeId < log.getEdgeCount(); edgeId++) {
+            if (!insertedRemoved[edgeId - edgeMark]) {
+                dynamic.deleteEdge(edgeId);
+            }
+        }
+        log.rollback(edgeMark, removedMark);
+    }
+
+    public final class Updater {
+        private boolean open = true;
+        private boolean changed;
+
+        private Updater() {
+        }
+
+        public void insertEdge(int source, int destination, int weight) {
+            checkOpen();
+            dynamic.insertEdge(source, destination, weight);
+            log.append(source, destination, weight);
+            changed = true;
+        }
+
+        public boolean removeEdge(Edge edge) {
+            checkOpen();
+            int edgeId = log.find(edge.getSource(), edge.getDestination(), edge.getWeight());
+            if (edgeId < 0) {
+                return false;
+            }
+            dynamic.deleteEdge(edgeId);
+            log.remove(edgeId);
+            changed = true;
+            return true;
+        }
+
+        private void checkOpen() {
+            if (!open) {
+                throw new IllegalStateException("Updater used outside of its update");
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.aitbek.mst.service;
+
+import com.aitbek.mst.algorithm.ReplacementIndex;
+import com.aitbek.mst.algorithm.ReplacementQueries;
+import com.aitbek.mst.algorithm.RootedTree;
+import com.aitbek.mst.algorithm.TreeCut;
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.PrimitiveGraph;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+public final class MSTSnapshot {
+    private final long version;
+    private final EdgeLog.View edges;
+    private final List<Edge> mst;
+    private final long totalWeight;
+    private final ReplacementQueries warmQueries;
+    private volatile List<Edge> edgeList;
+    private volatile RootedTree tree;
+    private volatile ReplacementIndex replacementIndex;
+
+    MSTSnapshot(long version, EdgeLog.View edges, int[] treeEdgeIds, long totalWeight, ReplacementQueries warmQueries) {
+        this.version = version;
+        this.edges = edges;
+        this.mst = new EdgeIdList(edges, treeEdgeIds);
+        this.totalWeight = totalWeight;
+        this.warmQueries = warmQueries;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getVertices() {
+        return edges.getVertices();
+    }
+
+    public int getEdgeCount() {
+        return edges.getAliveCount();
+    }
+
+    public List<Edge> getEdges() {
+        List<Edge> list = edgeList;
+        if (list == null) {
+            synchronized (this) {
+                list = edgeList;
+                if (list == null) {
+                    list = new EdgeIdList(edges, edges.aliveEdgeIds());
+                    edgeList = list;
+                }
+            }
+        }
+        return list;
+    }
+
+    public List<Edge> getMST() {
+        return mst;
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public boolean isTreeEdge(Edge edge) {
+        return warmQueries != null ? warmQueries.isTreeEdge(edge) : getTree().childOf(edge) >= 0;
+    }
+
+    public Edge findTreeEdge(int vertex1, int vertex2) {
+        if (warmQueries != null) {
+            return warmQueries.findTreeEdge(vertex1, vertex2);
+        }
+        RootedTree rootedTree = getTree();
+        int child = rootedTree.childOf(vertex1, vertex2);
+        return child < 0 ? null : rootedTree.getParentEdge(child);
+    }
+
+    public Edge findReplacementEdge(Edge removedEdge) {
+        return queries().getReplacement(removedEdge);
+    }
+
+    public Map<Edge, Edge> findReplacementEdges(Collection<Edge> removedEdges) {
+        ReplacementQueries queries = queries();
+        Map<Edge, Edge> replacements = new LinkedHashMap<>();
+        for (Edge edge : removedEdges) {
+            replacements.put(edge, queries.getReplacement(edge));
+        }
+        return replacements;
+    }
+
+    public TreeCut getCut(Edge removedEdge) {
+        return getTree().cut(removedEdge);
+    }
+
+    public ReplacementIndex getReplacementIndex() {
+        ReplacementIndex index = replacementIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = replacementIndex;
+                if (index == null) {
+                    index = new ReplacementIndex(getTree(), edges, edges.sortedAliveEdgeIds());
+                    replacementIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private ReplacementQueries queries() {
+        return warmQueries != null ? warmQueries : getReplacementIndex();
+    }
+
+    private RootedTree getTree() {
+        RootedTree rootedTree = tree;
+        if (rootedTree == null) {
+            synchronized (this) {
+                rootedTree = tree;
+                if (rootedTree == null) {
+                    rootedTree = new RootedTree(edges.getVertices(), mst);
+                    tree = rootedTree;
+                }
+            }
+        }
+        return rootedTree;
+    }
+
+    private static final class EdgeIdList extends AbstractList<Edge> implements RandomAccess {
+        private final PrimitiveGraph graph;
+        private final int[] edgeIds;
+
+        EdgeIdList(PrimitiveGraph graph, int[] edgeIds) {
+            this.graph = graph;
+            this.edgeIds = edgeIds;
+        }
+
+        @Override
+        public Edge get(int index) {
+            return graph.toEdge(edgeIds[index]);
+        }
+
+        @Override
+        public int size() {
+            return edgeIds.length;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.CompactGraph;
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicMSTTest {
+
+    @Test
+    void testFromSampleGraph() {
+        DynamicMST dynamic = DynamicMST.from(Graph.createSampleGraph());
+
+        assertEquals(11, dynamic.getTotalWeight());
+        assertEquals(5, dynamic.getTreeEdgeCount());
+        assertEquals(5, dynamic.getMSTEdges().size());
+    }
+
+    @Test
+    void testDeleteTreeEdgeFindsReplacement() {
+        DynamicMST dynamic = DynamicMST.from(Graph.createSampleGraph());
+
+        dynamic.deleteEdge(3);
+
+        assertEquals(13, dynamic.getTotalWeight());
+        assertTrue(dynamic.getMSTEdges().contains(new Edge(2, 3, 4)));
+        assertFalse(dynamic.getMSTEdges().contains(new Edge(1, 3, 2)));
+    }
+
+    @Test
+    void testRestoreUndoesDeletion() {
+        DynamicMST dynamic = DynamicMST.from(Graph.createSampleGraph());
+        int[] before = dynamic.getTreeEdgeIds();
+
+        dynamic.deleteEdge(3);
+        dynamic.restoreEdge(3);
+
+        assertArrayEquals(before, dynamic.getTreeEdgeIds());
+        assertEquals(11, dynamic.getTotalWeight());
+        assertThrows(IllegalArgumentException.class, () -> dynamic.restoreEdge(3));
+        assertThrows(IllegalArgumentException.class, () -> dynamic.restoreEdge(8));
+    }
+
+    @Test
+    void testInsertLighterEdgeSwapsHeaviestOnPath() {
+        DynamicMST dynamic = DynamicMST.from(Graph.createSampleGraph());
+
+        int edgeId = dynamic.insertEdge(0, 5, 1);
+
+        assertTrue(dynamic.isTreeEdge(edgeId));
+        assertEquals(9, dynamic.getTotalWeight());
+        assertEquals(5, dynamic.getTreeEdgeCount());
+    }
+
+    @Test
+    void testWeightChanges() {
+        DynamicMST dynamic = DynamicMST.from(Graph.createSampleGraph());
+
+        dynamic.updateWeight(2, 10);
+        assertFalse(dynamic.isTreeEdge(2));
+        assertEquals(14, dynamic.getTotalWeight());
+
+        dynamic.updateWeight(6, 0);
+        assertTrue(dynamic.isTreeEdge(6));
+        assertEquals(11, dynamic.getTotalWeight());
+    }
+
+    @Test
+    void testTreeEdgeWeightDecreaseKeepsTree() {
+        DynamicMST dynamic = DynamicMST.from(Graph.createSampleGraph());
+        int[] before = dynamic.getTreeEdgeIds();
+        int edgeId = before[before.length - 1];
+        int weight = dynamic.getEdge(edgeId).getWeight();
+
+        dynamic.updateWeight(edgeId, weight - 3);
+
+        assertTrue(dynamic.isTreeEdge(edgeId));
+        assertArrayEquals(before, dynamic.getTreeEdgeIds());
+        assertEquals(8, dynamic.getTotalWeight());
+        assertEquals(weight - 3, dynamic.getEdge(edgeId).getWeight());
+    }
+
+    @Test
+    void testDisconnectingDeletion() {
+        DynamicMST dynamic = new DynamicMST(3);
+        int first = dynamic.insertEdge(0, 1, 4);
+        dynamic.insertEdge(1, 2, 2);
+
+        dynamic.deleteEdge(first);
+
+        assertEquals(1, dynamic.getTreeEdgeCount());
+        assertFalse(dynamic.isConnected(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> dynamic.deleteEdge(first));
+    }
+
+    @Test
+    void testRandomUpdatesMatchRebuild() {
+        Random random = new Random(5);
+        int vertices = 30;
+        DynamicMST dynamic = new DynamicMST(vertices);
+        List<Integer> liveIds = new ArrayList<>();
+
+        for (int step = 0; step < 2000; step++) {
+            int action = random.nextInt(10);
+            if (liveIds.isEmpty() || action < 5) {
+                liveIds.add(dynamic.insertEdge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(50)));
+            } else if (action < 8) {
+                dynamic.deleteEdge(liveIds.remove(random.nextInt(liveIds.size())));
+            } else {
+                dynamic.updateWeight(liveIds.get(random.nextInt(liveIds.size())), random.nextInt(50));
+            }
+
+            assertEquals(rebuildWeight(dynamic, liveIds, vertices), dynamic.getTotalWeight());
+        }
+    }
+
+    @Test
+    void testTreeEdgeDeletionsMatchRebuild() {
+        Random random = new Random(11);
+        int vertices = 200;
+        int edges = 800;
+        int[] sources = new int[edges];
+        int[] destinations = new int[edges];
+        int[] weights = new int[edges];
+        for (int i = 0; i < edges; i++) {
+            sources[i] = random.nextInt(vertices);
+            destinations[i] = random.nextInt(vertices);
+            weights[i] = random.nextInt(20);
+        }
+        DynamicMST dynamic = DynamicMST.from(CompactGraph.of(vertices, sources, destinations, weights));
+        List<Integer> liveIds = new ArrayList<>();
+        for (int i = 0; i < edges; i++) {
+            liveIds.add(i);
+        }
+
+        while (dynamic.getTreeEdgeCount() > 0) {
+            int[] treeEdgeIds = dynamic.getTreeEdgeIds();
+            Integer edgeId = treeEdgeIds[random.nextInt(treeEdgeIds.length)];
+            dynamic.deleteEdge(edgeId);
+            liveIds.remove(edgeId);
+
+            assertEquals(rebuildWeight(dynamic, liveIds, vertices), dynamic.getTotalWeight());
+        }
+    }
+
+    @Test
+    void testTreeEdgeUpdatesAcrossLevelsMatchRebuild() {
+        Random random = new Random(29);
+        int vertices = 128;
+        DynamicMST dynamic = new DynamicMST(vertices);
+        List<Integer> liveIds = new ArrayList<>();
+        List<Integer> deletedIds = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            liveIds.add(dynamic.insertEdge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(100)));
+        }
+
+        for (int step = 0; step < 3000; step++) {
+            int action = random.nextInt(10);
+            int[] treeEdgeIds = dynamic.getTreeEdgeIds();
+            if (action < 4 && treeEdgeIds.length > 0) {
+                Integer edgeId = treeEdgeIds[random.nextInt(treeEdgeIds.length)];
+                dynamic.deleteEdge(edgeId);
+                liveIds.remove(edgeId);
+                deletedIds.add(edgeId);
+            } else if (action < 6 && !deletedIds.isEmpty()) {
+                int edgeId = deletedIds.remove(random.nextInt(deletedIds.size()));
+                dynamic.restoreEdge(edgeId);
+                liveIds.add(edgeId);
+            } else if (action < 8 && treeEdgeIds.length > 0) {
+                dynamic.updateWeight(treeEdgeIds[random.nextInt(treeEdgeIds.length)], random.nextInt(100));
+            } else {
+                liveIds.add(dynamic.insertEdge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(100)));
+            }
+
+            assertEquals(rebuildWeight(dynamic, liveIds, vertices), dynamic.getTotalWeight());
+        }
+    }
+
+    private long rebuildWeight(DynamicMST dynamic, List<Integer> liveIds, int vertices) {
+        int[] sources = new int[liveIds.size()];
+        int[] destinations = new int[liveIds.size()];
+        int[] weights = new int[liveIds.size()];
+        for (int i = 0; i < liveIds.size(); i++) {
+            Edge edge = dynamic.getEdge(liveIds.get(i));
+            sources[i] = edge.getSource();
+            destinations[i] = edge.getDestination();
+            weights[i] = edge.getWeight();
+        }
+
+        CompactGraph graph = CompactGraph.of(vertices, sources, destinations, weights);
+        return MSTAlgorithm.calculateMSTWeight(graph, MSTAlgorithm.buildMST(graph));
+    }
+}
@@ -0,0 +1,72 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.CompactGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EdgeOrderingTest {
+
+    private CompactGraph randomGraph(long seed, int edges, int minWeight, int maxWeight) {
+        Random random = new Random(seed);
+        int vertices = 1000;
+        int[] sources = new int[edges];
+        int[] destinations = new int[edges];
+        int[] weights = new int[edges];
+        for (int i = 0; i < edges; i++) {
+            sources[i] = random.nextInt(vertices);
+            destinations[i] = random.nextInt(vertices);
+            weights[i] = minWeight + (int) (random.nextDouble() * ((double) maxWeight - minWeight));
+        }
+        return CompactGraph.of(vertices, sources, destinations, weights);
+    }
+
+    @Test
+    void testCountingMatchesComparison() {
+        CompactGraph graph = randomGraph(1, 20000, 0, 65535);
+        assertArrayEquals(EdgeOrdering.COMPARISON.sort(graph), EdgeOrdering.COUNTING.sort(graph));
+    }
+
+    @Test
+    void testRadixMatchesComparisonOnFullIntRange() {
+        CompactGraph graph = randomGraph(2, 20000, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertArrayEquals(EdgeOrdering.COMPARISON.sort(graph), EdgeOrdering.RADIX.sort(graph));
+    }
+
+    @Test
+    void testRadixIsStableForDuplicateWeights() {
+        CompactGraph graph = randomGraph(3, 5000, -3, 3);
+        int[] order = EdgeOrdering.RADIX.sort(graph);
+
+        for (int i = 1; i < order.length; i++) {
+            int previous = graph.getWeight(order[i - 1]);
+            int current = graph.getWeight(order[i]);
+            assertTrue(previous < current || (previous == current && order[i - 1] < order[i]));
+        }
+    }
+
+    @Test
+    void testAutomaticSelection() {
+        assertEquals(EdgeOrdering.COMPARISON, EdgeOrdering.choose(randomGraph(4, 100, 0, 10)));
+        assertEquals(EdgeOrdering.COUNTING, EdgeOrdering.choose(randomGraph(5, 10000, 0, 65535)));
+        assertEquals(EdgeOrdering.RADIX, EdgeOrdering.choose(randomGraph(6, 10000, 0, 1 << 30)));
+    }
+
+    @Test
+    void testCountingRejectsWideRange() {
+        CompactGraph graph = CompactGraph.of(2, new int[]{0, 0}, new int[]{1, 1}, new int[]{0, Integer.MAX_VALUE});
+        assertThrows(IllegalArgumentException.class, () -> EdgeOrdering.COUNTING.sort(graph));
+    }
+
+    @Test
+    void testMSTIsIdenticalAcrossOrderings() {
+        CompactGraph graph = randomGraph(7, 8000, 0, 200);
+        int[] expected = MSTAlgorithm.buildMST(graph, EdgeOrdering.COMPARISON);
+
+        for (EdgeOrdering ordering : EdgeOrdering.values()) {
+            assertArrayEquals(expected, MSTAlgorithm.buildMST(graph, ordering));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.io.BinaryGraphFormat;
+import com.aitbek.mst.io.MappedGraph;
+import com.aitbek.mst.model.CompactGraph;
+import com.aitbek.mst.model.Graph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExternalMSTTest {
+
+    @Test
+    void testMatchesInMemoryKruskalWithManyRuns(@TempDir Path tempDir) throws IOException {
+        Random random = new Random(9);
+        int vertices = 3000;
+        int edges = 20000;
+        int[] sources = new int[edges];
+        int[] destinations = new int[edges];
+        int[] weights = new int[edges];
+        for (int i = 0; i < edges; i++) {
+            sources[i] = random.nextInt(vertices);
+            destinations[i] = random.nextInt(vertices);
+            weights[i] = random.nextInt(100);
+        }
+        CompactGraph graph = CompactGraph.of(vertices, sources, destinations, weights);
+
+        ExternalMST external = new ExternalMST(16 * 1000, tempDir);
+        int[] mst = external.buildMST(graph);
+
+        assertEquals(16, external.getLastRunCount());
+        assertEquals(2, external.getFanIn());
+        assertEquals(4, external.getLastMergePassCount());
+        assertArrayEquals(MSTAlgorithm.buildMST(graph), mst);
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void testStreamsFromMappedFileAndWritesResult(@TempDir Path tempDir) throws IOException {
+        Path input = tempDir.resolve("graph.bin");
+        Path output = tempDir.resolve("mst.bin");
+        BinaryGraphFormat.write(input, Graph.createSampleGraph());
+
+        try (MappedGraph mapped = MappedGraph.open(input)) {
+            int[] mst = new ExternalMST(64, tempDir).buildMST(mapped, output);
+            assertEquals(5, mst.length);
+        }
+
+        try (MappedGraph result = MappedGraph.open(output)) {
+            assertEquals(6, result.getVertices());
+            assertEquals(5, result.getEdgeCount());
+            int[] all = new int[result.getEdgeCount()];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            assertEquals(11, MSTAlgorithm.calculateMSTWeight(result, all));
+        }
+    }
+
+    @Test
+    void testEmptyGraph(@TempDir Path tempDir) throws IOException {
+        ExternalMST external = new ExternalMST(1024, tempDir);
+
+        assertEquals(0, external.buildMST(CompactGraph.from(new Graph(4))).length);
+        assertEquals(0, external.getLastRunCount());
+    }
+
+    @Test
+    void testRejectsTinyBudget(@TempDir Path tempDir) {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalMST(8, tempDir));
+    }
+}
@@ -0,0 +1,73 @@
+package com.aitbek.mst.algorithm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedDaryHeapTest {
+
+    @Test
+    void testInsertAndPollInOrder() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(5, 3);
+        heap.insert(0, 40);
+        heap.insert(1, 10);
+        heap.insert(2, 30);
+        heap.insert(3, 20);
+
+        assertEquals(4, heap.size());
+        assertEquals(1, heap.pollMin());
+        assertEquals(3, heap.pollMin());
+        assertEquals(2, heap.pollMin());
+        assertEquals(0, heap.pollMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void testDecreaseKey() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(3);
+        heap.insert(0, 5);
+        heap.insert(1, 7);
+
+        assertTrue(heap.decreaseKey(1, 2));
+        assertFalse(heap.decreaseKey(0, 9));
+        assertEquals(1, heap.pollMin());
+        assertFalse(heap.contains(1));
+        assertTrue(heap.contains(0));
+    }
+
+    @Test
+    void testRandomOperationsYieldSortedOutput() {
+        Random random = new Random(4);
+        IndexedDaryHeap heap = new IndexedDaryHeap(1000, 4);
+        for (int i = 0; i < 1000; i++) {
+            heap.insert(i, random.nextInt(10000));
+        }
+        for (int i = 0; i < 500; i++) {
+            int item = random.nextInt(1000);
+            heap.decreaseKey(item, heap.getPriority(item) - random.nextInt(100));
+        }
+
+        long previous = Long.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            long current = heap.getPriority(heap.peekMin());
+            heap.pollMin();
+            assertTrue(previous <= current);
+            previous = current;
+        }
+    }
+
+    @Test
+    void testClearAndInvalidUse() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(2);
+        heap.insert(0, 1);
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(0, 2));
+
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertThrows(NoSuchElementException.class, heap::pollMin);
+        assertThrows(IllegalArgumentException.class, () -> new IndexedDaryHeap(2, 1));
+    }
+}
@@ -0,0 +1,161 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.CompactGraph;
+import com.aitbek.mst.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KBestSpanningTreesTest {
+
+    @Test
+    void testSecondBestOnSampleGraph() {
+        Graph graph = Graph.createSampleGraph();
+        SpanningTree second = KBestSpanningTrees.secondBest(graph);
+
+        assertNotNull(second);
+        assertEquals(5, second.getEdgeCount());
+        assertEquals(12, second.getWeight());
+        assertEquals(12, new MSTAlgorithm(graph).calculateMSTWeight(second.getEdges()));
+    }
+
+    @Test
+    void testSecondBestOfTreeIsNull() {
+        CompactGraph tree = CompactGraph.of(3, new int[]{0, 1}, new int[]{1, 2}, new int[]{1, 1});
+        assertNull(KBestSpanningTrees.secondBest(tree));
+    }
+
+    @Test
+    void testEnumerationMatchesBruteForce() {
+        Random random = new Random(23);
+        for (int round = 0; round < 20; round++) {
+            int vertices = 4 + random.nextInt(3);
+            int edgeCount = vertices + random.nextInt(5);
+            int[] sources = new int[edgeCount];
+            int[] destinations = new int[edgeCount];
+            int[] weights = new int[edgeCount];
+            for (int e = 0; e < edgeCount; e++) {
+                sources[e] = e < vertices - 1 ? e : random.nextInt(vertices);
+                destinations[e] = e < vertices - 1 ? e + 1 : random.nextInt(vertices);
+                weights[e] = random.nextInt(6);
+            }
+            CompactGraph graph = CompactGraph.of(vertices, sources, destinations, weights);
+
+            List<Long> expected = allSpanningTreeWeights(graph);
+            KBestSpanningTrees trees = new KBestSpanningTrees(graph, Integer.MAX_VALUE);
+            List<Long> actual = new ArrayList<>();
+            Set<String> seen = new HashSet<>();
+            while (trees.hasNext()) {
+                SpanningTree tree = trees.next();
+                int[] ids = tree.getEdgeIds();
+                Arrays.sort(ids);
+                assertTrue(seen.add(Arrays.toString(ids)));
+                assertEquals(vertices - 1, ids.length);
+                actual.add(tree.getWeight());
+            }
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void testLimitStopsEnumeration() {
+        KBestSpanningTrees trees = new KBestSpanningTrees(Graph.createSampleGraph(), 3);
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long weight = trees.next().getWeight();
+            assertTrue(weight >= previous);
+            previous = weight;
+        }
+
+        assertFalse(trees.hasNext());
+        assertThrows(NoSuchElementException.class, trees::next);
+        assertThrows(IllegalArgumentException.class, () -> new KBestSpanningTrees(Graph.createSampleGraph(), 0));
+    }
+
+    @Test
+    void testPathMaxMatchesNaiveWalk() {
+        Random random = new Random(4);
+        int vertices = 300;
+        Graph graph = new Graph(vertices);
+        for (int v = 1; v < vertices; v++) {
+            graph.addEdge(random.nextInt(v), v, random.nextInt(50));
+        }
+        int[] tree = new int[vertices - 1];
+        for (int i = 0; i < tree.length; i++) {
+            tree[i] = i;
+        }
+        boolean[] fixed = new boolean[tree.length];
+        for (int i = 0; i < fixed.length; i += 7) {
+            fixed[i] = true;
+        }
+
+        PathMaxIndex index = new PathMaxIndex(graph, tree, fixed);
+        for (int q = 0; q < 2000; q++) {
+            int a = random.nextInt(vertices);
+            int b = random.nextInt(vertices);
+            assertEquals(naivePathMax(graph, fixed, a, b), index.query(a, b));
+        }
+        assertEquals(-1, index.query(5, 5));
+    }
+
+    private static int naivePathMax(Graph graph, boolean[] fixed, int a, int b) {
+        int[] parentEdge = new int[graph.getVertices()];
+        int[] depth = new int[graph.getVertices()];
+        for (int v = 1; v < graph.getVertices(); v++) {
+            parentEdge[v] = v - 1;
+            depth[v] = depth[graph.getSource(v - 1)] + 1;
+        }
+
+        int best = -1;
+        while (a != b) {
+            int deeper = depth[a] >= depth[b] ? a : b;
+            int edgeId = parentEdge[deeper];
+            if (!fixed[edgeId] && (best < 0 || key(graph, edgeId) > key(graph, best))) {
+                best = edgeId;
+            }
+            if (deeper == a) {
+                a = graph.getSource(edgeId);
+            } else {
+                b = graph.getSource(edgeId);
+            }
+        }
+        return best;
+    }
+
+    private static long key(Graph graph, int edgeId) {
+        return ((long) graph.getWeight(edgeId) << 32) | edgeId;
+    }
+
+    private static List<Long> allSpanningTreeWeights(CompactGraph graph) {
+        List<Long> weights = new ArrayList<>();
+        int edgeCount = graph.getEdgeCount();
+        for (int mask = 0; mask < (1 << edgeCount); mask++) {
+            if (Integer.bitCount(mask) != graph.getVertices() - 1) {
+                continue;
+            }
+            UnionFind uf = new UnionFind(graph.getVertices());
+            boolean acyclic = true;
+            long weight = 0;
+            for (int e = 0; e < edgeCount && acyclic; e++) {
+                if ((mask & (1 << e)) != 0) {
+                    acyclic = uf.union(graph.getSource(e), graph.getDestination(e));
+                    weight += graph.getWeight(e);
+                }
+            }
+            if (acyclic) {
+                weights.add(weight);
+            }
+        }
+        weights.sort(null);
+        return weights;
+    }
+}
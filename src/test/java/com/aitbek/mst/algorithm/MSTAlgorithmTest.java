@@ -1,11 +1,15 @@
 package com.aitbek.mst.algorithm;
 
+import com.aitbek.mst.model.CompactGraph;
 import com.aitbek.mst.model.Edge;
 import com.aitbek.mst.model.Graph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -88,6 +92,122 @@ class MSTAlgorithmTest {
         assertEquals(2, result.size());
     }
 
+    @Test
+    void testReplacementScopedToComponentInForest() {
+        Graph forest = new Graph(7);
+        forest.addEdge(0, 1, 1);
+        forest.addEdge(1, 2, 2);
+        forest.addEdge(0, 2, 5);
+        forest.addEdge(3, 4, 1);
+        forest.addEdge(4, 5, 1);
+        forest.addEdge(3, 5, 3);
+
+        MSTAlgorithm mst = new MSTAlgorithm(forest);
+        mst.buildMST();
+
+        List<Set<Integer>> components = mst.getComponentsAfterRemoval(new Edge(1, 2, 2));
+        assertEquals(List.of(Set.of(2), Set.of(0, 1)), components);
+        assertEquals(new Edge(0, 2, 5), mst.findReplacementEdge(new Edge(1, 2, 2)));
+        assertEquals(new Edge(3, 5, 3), mst.findReplacementEdge(new Edge(4, 5, 1)));
+        assertEquals(List.of(Set.of(0, 1, 2)), mst.getComponentsAfterRemoval(new Edge(0, 2, 5)));
+        assertNull(mst.findReplacementEdge(new Edge(0, 2, 5)));
+    }
+
+    @Test
+    void testReplacementMatchesBruteForceOnRandomForest() {
+        Random random = new Random(19);
+        Graph forest = new Graph(120);
+        for (int i = 0; i < 400; i++) {
+            int island = random.nextInt(4) * 30;
+            forest.addEdge(island + random.nextInt(30), island + random.nextInt(30), random.nextInt(20));
+        }
+
+        MSTAlgorithm mst = new MSTAlgorithm(forest);
+        List<Edge> tree = mst.buildMST();
+
+        for (Edge removed : tree) {
+            UnionFind uf = new UnionFind(120);
+            for (Edge edge : tree) {
+                if (edge != removed) {
+                    uf.union(edge.getSource(), edge.getDestination());
+                }
+            }
+            int side1 = uf.find(removed.getSource());
+            int side2 = uf.find(removed.getDestination());
+            Edge expected = null;
+            for (Edge edge : forest.getSortedEdges()) {
+                int source = uf.find(edge.getSource());
+                int destination = uf.find(edge.getDestination());
+                boolean crosses = source == side1 && destination == side2 || source == side2 && destination == side1;
+                if (crosses && !edge.equals(removed)) {
+                    expected = edge;
+                    break;
+                }
+            }
+            assertEquals(expected, mst.findReplacementEdge(removed));
+            assertEquals(expected, mst.getReplacementIndex().getReplacement(removed));
+        }
+    }
+
+    @Test
+    void testAddEdgeSwapsHeaviestPathEdge() {
+        List<Edge> before = mstAlgorithm.buildMST();
+        ReplacementIndex index = mstAlgorithm.getReplacementIndex();
+
+        assertTrue(mstAlgorithm.addEdge(0, 5, 1));
+        List<Edge> after = mstAlgorithm.getCurrentMST();
+
+        assertEquals(before.size(), after.size());
+        assertTrue(after.contains(new Edge(0, 5, 1)));
+        assertFalse(after.contains(new Edge(4, 5, 3)));
+        assertEquals(9, mstAlgorithm.calculateMSTWeight(after));
+        assertNotSame(index, mstAlgorithm.getReplacementIndex());
+
+        assertFalse(mstAlgorithm.addEdge(1, 2, 7));
+        assertFalse(mstAlgorithm.addEdge(3, 3, 0));
+        assertEquals(9, mstAlgorithm.calculateMSTWeight(mstAlgorithm.getCurrentMST()));
+    }
+
+    @Test
+    void testIncrementalInsertionMatchesRebuild() {
+        Random random = new Random(22);
+        int vertices = 150;
+        Graph incremental = new Graph(vertices);
+        Graph reference = new Graph(vertices);
+        for (int i = 0; i < 200; i++) {
+            int source = random.nextInt(vertices);
+            int destination = random.nextInt(vertices);
+            int weight = random.nextInt(30);
+            incremental.addEdge(source, destination, weight);
+            reference.addEdge(source, destination, weight);
+        }
+
+        MSTAlgorithm mst = new MSTAlgorithm(incremental);
+        mst.buildMST();
+        for (int i = 0; i < 600; i++) {
+            int source = random.nextInt(vertices);
+            int destination = random.nextInt(vertices);
+            int weight = random.nextInt(30);
+            reference.addEdge(source, destination, weight);
+            if (i % 3 == 0) {
+                incremental.addEdge(source, destination, weight);
+                mst.insertNewEdges();
+            } else {
+                mst.addEdge(source, destination, weight);
+            }
+
+            if (i % 50 == 0) {
+                Edge treeEdge = mst.getCurrentMST().get(0);
+                assertEquals(mst.getReplacementIndex().getReplacement(treeEdge), mst.findReplacementEdge(treeEdge));
+            }
+        }
+
+        List<Edge> expected = new MSTAlgorithm(reference).buildMST();
+        List<Edge> actual = mst.getCurrentMST();
+        assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+        assertEquals(mst.calculateMSTWeight(expected), mst.calculateMSTWeight(actual));
+    }
+
     @Test
     void testSingleEdgeGraph() {
         Graph singleEdge = new Graph(2);
@@ -106,4 +226,36 @@ class MSTAlgorithmTest {
         List<Edge> current = mstAlgorithm.getCurrentMST();
         assertEquals(5, current.size());
     }
+
+    @Test
+    void testBuildMSTOnCompactGraph() {
+        CompactGraph compact = CompactGraph.from(graph);
+        int[] mst = MSTAlgorithm.buildMST(compact);
+
+        assertEquals(5, mst.length);
+        assertEquals(11, MSTAlgorithm.calculateMSTWeight(compact, mst));
+    }
+
+    @Test
+    void testFindReplacementEdgesBatch() {
+        List<Edge> mst = mstAlgorithm.buildMST();
+        Edge nonTreeEdge = new Edge(3, 5, 6);
+
+        Map<Edge, Edge> replacements = mstAlgorithm.findReplacementEdges(List.of(mst.get(0), mst.get(2), nonTreeEdge));
+
+        assertEquals(3, replacements.size());
+        assertEquals(mstAlgorithm.findReplacementEdge(mst.get(0)), replacements.get(mst.get(0)));
+        assertEquals(mstAlgorithm.findReplacementEdge(mst.get(2)), replacements.get(mst.get(2)));
+        assertNull(replacements.get(nonTreeEdge));
+    }
+
+    @Test
+    void testReplacementIndexIsSharedUntilRebuild() {
+        mstAlgorithm.buildMST();
+        ReplacementIndex index = mstAlgorithm.getReplacementIndex();
+
+        assertSame(index, mstAlgorithm.getReplacementIndex());
+        mstAlgorithm.buildMST();
+        assertNotSame(index, mstAlgorithm.getReplacementIndex());
+    }
 }
\ No newline at end of file
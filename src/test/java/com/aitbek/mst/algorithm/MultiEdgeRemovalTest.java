@@ -0,0 +1,122 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiEdgeRemovalTest {
+
+    @Test
+    void testSingleRemovalMatchesReplacementEdge() {
+        MSTAlgorithm mstAlgorithm = new MSTAlgorithm(Graph.createSampleGraph());
+        List<Edge> mst = mstAlgorithm.buildMST();
+
+        for (Edge edge : mst) {
+            MultiEdgeRemoval removal = mstAlgorithm.removeEdges(List.of(edge));
+            Edge replacement = mstAlgorithm.findReplacementEdge(edge);
+
+            assertEquals(2, removal.getFragmentCount());
+            assertEquals(replacement == null ? List.of() : List.of(replacement), removal.getReplacementEdges());
+            assertEquals(new HashSet<>(mstAlgorithm.getComponentsAfterRemoval(edge)), new HashSet<>(removal.getFragments()));
+        }
+    }
+
+    @Test
+    void testJointReconnectionOfSampleGraph() {
+        MSTAlgorithm mstAlgorithm = new MSTAlgorithm(Graph.createSampleGraph());
+        mstAlgorithm.buildMST();
+
+        MultiEdgeRemoval removal = mstAlgorithm.removeEdges(List.of(new Edge(1, 3, 2), new Edge(4, 5, 3), new Edge(2, 3, 4)));
+
+        assertEquals(List.of(new Edge(1, 3, 2), new Edge(4, 5, 3)), removal.getRemovedTreeEdges());
+        assertEquals(3, removal.getFragmentCount());
+        assertEquals(Set.of(Set.of(0, 1, 2), Set.of(3, 4), Set.of(5)), new HashSet<>(removal.getFragments()));
+        assertEquals(List.of(new Edge(3, 5, 6)), removal.getReplacementEdges());
+        assertFalse(removal.isReconnected());
+        assertEquals(4, removal.getNewMST().size());
+        assertEquals(1, removal.getWeightDelta());
+    }
+
+    @Test
+    void testParallelCopyOfRemovedEdgeIsStillACandidate() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(0, 3, 5);
+        graph.addEdge(1, 3, 3);
+        MSTAlgorithm mstAlgorithm = new MSTAlgorithm(graph);
+        mstAlgorithm.buildMST();
+
+        MultiEdgeRemoval removal = mstAlgorithm.removeEdges(List.of(new Edge(0, 1, 2)));
+        assertEquals(List.of(new Edge(0, 1, 2)), removal.getReplacementEdges());
+        assertEquals(0, removal.getWeightDelta());
+
+        removal = mstAlgorithm.removeEdges(List.of(new Edge(1, 0, 2), new Edge(0, 1, 2), new Edge(2, 3, 1)));
+        assertEquals(List.of(new Edge(1, 3, 3), new Edge(0, 3, 5)), removal.getReplacementEdges());
+        assertTrue(removal.isReconnected());
+        assertEquals(5, removal.getWeightDelta());
+    }
+
+    @Test
+    void testMatchesRebuildOnRandomForests() {
+        Random random = new Random(24);
+        for (int round = 0; round < 30; round++) {
+            int vertices = 80;
+            Graph graph = new Graph(vertices);
+            for (int i = 0; i < 300; i++) {
+                int island = random.nextInt(2) * 40;
+                graph.addEdge(island + random.nextInt(40), island + random.nextInt(40), random.nextInt(25));
+            }
+
+            MSTAlgorithm mstAlgorithm = new MSTAlgorithm(graph);
+            List<Edge> mst = mstAlgorithm.buildMST();
+            List<Edge> shuffled = new ArrayList<>(mst);
+            Collections.shuffle(shuffled, random);
+            List<Edge> removed = new ArrayList<>(shuffled.subList(0, 1 + random.nextInt(8)));
+            removed.add(graph.getEdges().get(random.nextInt(graph.getEdgeCount())));
+
+            MultiEdgeRemoval removal = mstAlgorithm.removeEdges(removed);
+
+            Set<Edge> removedSet = new HashSet<>(removed);
+            Graph remaining = new Graph(vertices);
+            for (Edge edge : graph.getEdges()) {
+                if (!removedSet.contains(edge)) {
+                    remaining.addEdge(edge.getSource(), edge.getDestination(), edge.getWeight());
+                }
+            }
+            MSTAlgorithm rebuilt = new MSTAlgorithm(remaining);
+            List<Edge> expected = rebuilt.buildMST();
+
+            assertEquals(rebuilt.calculateMSTWeight(expected), mstAlgorithm.calculateMSTWeight(removal.getNewMST()));
+            assertEquals(expected.size(), removal.getNewMST().size());
+            assertEquals(removal.getWeightDelta(),
+                    rebuilt.calculateMSTWeight(expected) - (long) mstAlgorithm.calculateMSTWeight(mst));
+            assertEquals(removal.getFragmentCount(), removal.getFragments().size());
+
+            UnionFind expectedFragments = new UnionFind(vertices);
+            for (Edge edge : mst) {
+                if (!removal.getRemovedTreeEdges().contains(edge)) {
+                    expectedFragments.union(edge.getSource(), edge.getDestination());
+                }
+            }
+            for (int u = 0; u < vertices; u++) {
+                for (int v = 0; v < vertices; v++) {
+                    if (removal.getFragment(u) >= 0 && removal.getFragment(v) >= 0) {
+                        assertEquals(expectedFragments.isConnected(u, v), removal.getFragment(u) == removal.getFragment(v));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.CompactGraph;
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.Graph;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelMSTTest {
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testSampleGraphWeight() {
+        Graph graph = Graph.createSampleGraph();
+        List<Edge> mst = new ParallelMST(pool, 2).buildMST(graph);
+
+        assertEquals(5, mst.size());
+        assertEquals(11, new MSTAlgorithm(graph).calculateMSTWeight(mst));
+    }
+
+    @Test
+    void testMatchesSequentialKruskal() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 10; trial++) {
+            int vertices = 50 + random.nextInt(500);
+            int edges = vertices * 4;
+            int[] sources = new int[edges];
+            int[] destinations = new int[edges];
+            int[] weights = new int[edges];
+            for (int i = 0; i < edges; i++) {
+                sources[i] = random.nextInt(vertices);
+                destinations[i] = random.nextInt(vertices);
+                weights[i] = random.nextInt(10);
+            }
+            CompactGraph graph = CompactGraph.of(vertices, sources, destinations, weights);
+
+            int[] expected = MSTAlgorithm.buildMST(graph);
+            int[] actual = new ParallelMST(pool, 16).buildMST(graph);
+
+            assertEquals(MSTAlgorithm.calculateMSTWeight(graph, expected), MSTAlgorithm.calculateMSTWeight(graph, actual));
+            Arrays.sort(expected);
+            Arrays.sort(actual);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void testDeterministicAcrossRuns() {
+        Random random = new Random(3);
+        int vertices = 2000;
+        int edges = 10000;
+        int[] sources = new int[edges];
+        int[] destinations = new int[edges];
+        int[] weights = new int[edges];
+        for (int i = 0; i < edges; i++) {
+            sources[i] = random.nextInt(vertices);
+            destinations[i] = random.nextInt(vertices);
+            weights[i] = random.nextInt(4);
+        }
+        CompactGraph graph = CompactGraph.of(vertices, sources, destinations, weights);
+
+        ForkJoinPool otherPool = new ForkJoinPool(2);
+        try {
+            int[] first = new ParallelMST(pool, 32).buildMST(graph);
+            int[] second = new ParallelMST(otherPool, 32).buildMST(graph);
+
+            assertArrayEquals(first, second);
+        } finally {
+            otherPool.shutdown();
+        }
+    }
+
+    @Test
+    void testEmptyGraph() {
+        assertEquals(0, new ParallelMST(pool).buildMST(new Graph(0)).size());
+        assertEquals(0, new ParallelMST(pool).buildMST(new Graph(3)).size());
+    }
+
+    @Test
+    void testRejectsInvalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMST(pool, 0));
+    }
+}
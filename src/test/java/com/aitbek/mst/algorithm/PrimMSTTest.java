@@ -0,0 +1,88 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.CompactGraph;
+import com.aitbek.mst.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimMSTTest {
+
+    private CompactGraph denseGraph(long seed, int vertices) {
+        Random random = new Random(seed);
+        int edges = vertices * (vertices - 1) / 4;
+        int[] sources = new int[edges];
+        int[] destinations = new int[edges];
+        int[] weights = new int[edges];
+        for (int i = 0; i < edges; i++) {
+            sources[i] = random.nextInt(vertices);
+            destinations[i] = random.nextInt(vertices);
+            weights[i] = random.nextInt(30);
+        }
+        return CompactGraph.of(vertices, sources, destinations, weights);
+    }
+
+    @Test
+    void testSampleGraph() {
+        CompactGraph graph = CompactGraph.from(Graph.createSampleGraph());
+        int[] mst = new PrimMST().buildMST(graph);
+
+        assertEquals(5, mst.length);
+        assertEquals(11, MSTAlgorithm.calculateMSTWeight(graph, mst));
+    }
+
+    @Test
+    void testMatchesKruskalOnDenseGraphs() {
+        for (int arity = 2; arity <= 8; arity *= 2) {
+            CompactGraph graph = denseGraph(arity, 120);
+
+            int[] kruskal = MSTAlgorithm.buildMST(graph);
+            int[] prim = new PrimMST(arity).buildMST(graph);
+
+            assertEquals(MSTAlgorithm.calculateMSTWeight(graph, kruskal), MSTAlgorithm.calculateMSTWeight(graph, prim));
+            Arrays.sort(kruskal);
+            Arrays.sort(prim);
+            assertArrayEquals(kruskal, prim);
+        }
+    }
+
+    @Test
+    void testMinimumWeightOnFirstEdge() {
+        CompactGraph graph = CompactGraph.of(3, new int[]{0, 1, 0}, new int[]{1, 2, 2},
+                new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE, 5});
+
+        assertArrayEquals(MSTAlgorithm.buildMST(graph), new PrimMST().buildMST(graph));
+        assertArrayEquals(new int[]{0}, new PrimMST().buildMST(CompactGraph.of(2, new int[]{0}, new int[]{1},
+                new int[]{Integer.MIN_VALUE})));
+    }
+
+    @Test
+    void testForest() {
+        CompactGraph graph = CompactGraph.of(5, new int[]{0, 1, 3}, new int[]{1, 2, 4}, new int[]{1, 2, 3});
+        int[] mst = new PrimMST().buildMST(graph);
+
+        assertEquals(3, mst.length);
+        assertEquals(6, MSTAlgorithm.calculateMSTWeight(graph, mst));
+    }
+
+    @Test
+    void testEngineSelection() {
+        assertEquals(MSTEngine.PRIM, MSTEngine.select(denseGraph(1, 60)));
+        assertEquals(MSTEngine.KRUSKAL, MSTEngine.select(CompactGraph.of(1000, new int[]{0}, new int[]{1}, new int[]{1})));
+        assertEquals(MSTEngine.PARALLEL_KRUSKAL, MSTEngine.select(1_000_000, 50_000_000, 32));
+        assertEquals(MSTEngine.KRUSKAL, MSTEngine.select(1_000_000, 50_000_000, 1));
+    }
+
+    @Test
+    void testAllEnginesAgree() {
+        CompactGraph graph = denseGraph(9, 80);
+        long expected = MSTAlgorithm.calculateMSTWeight(graph, MSTAlgorithm.buildMST(graph));
+
+        for (MSTEngine engine : MSTEngine.values()) {
+            assertEquals(expected, MSTAlgorithm.calculateMSTWeight(graph, engine.buildMST(graph)));
+        }
+    }
+}
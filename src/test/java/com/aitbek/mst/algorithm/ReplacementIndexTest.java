@@ -0,0 +1,89 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplacementIndexTest {
+
+    @Test
+    void testMatchesPerQueryReplacementOnSampleGraph() {
+        MSTAlgorithm mstAlgorithm = new MSTAlgorithm(Graph.createSampleGraph());
+        List<Edge> mst = mstAlgorithm.buildMST();
+        ReplacementIndex index = mstAlgorithm.getReplacementIndex();
+
+        for (Edge edge : mst) {
+            assertEquals(mstAlgorithm.findReplacementEdge(edge), index.getReplacement(edge));
+        }
+    }
+
+    @Test
+    void testMatchesPerQueryReplacementOnRandomGraphs() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 20; trial++) {
+            int vertices = 2 + random.nextInt(40);
+            Graph graph = new Graph(vertices);
+            for (int i = 1; i < vertices; i++) {
+                graph.addEdge(random.nextInt(i), i, random.nextInt(20));
+            }
+            for (int i = 0; i < vertices * 2; i++) {
+                int src = random.nextInt(vertices);
+                int dst = random.nextInt(vertices);
+                if (src != dst) {
+                    graph.addEdge(src, dst, random.nextInt(20));
+                }
+            }
+
+            MSTAlgorithm mstAlgorithm = new MSTAlgorithm(graph);
+            List<Edge> mst = mstAlgorithm.buildMST();
+            ReplacementIndex index = mstAlgorithm.getReplacementIndex();
+
+            for (Edge edge : mst) {
+                assertEquals(mstAlgorithm.findReplacementEdge(edge), index.getReplacement(edge));
+            }
+        }
+    }
+
+    @Test
+    void testBridgeHasNoReplacement() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 2);
+        graph.addEdge(0, 2, 5);
+        graph.addEdge(2, 3, 3);
+
+        MSTAlgorithm mstAlgorithm = new MSTAlgorithm(graph);
+        mstAlgorithm.buildMST();
+        ReplacementIndex index = mstAlgorithm.getReplacementIndex();
+
+        assertNull(index.getReplacement(new Edge(2, 3, 3)));
+        assertEquals(new Edge(0, 2, 5), index.getReplacement(new Edge(1, 2, 2)));
+    }
+
+    @Test
+    void testNonTreeEdgeLookup() {
+        MSTAlgorithm mstAlgorithm = new MSTAlgorithm(Graph.createSampleGraph());
+        mstAlgorithm.buildMST();
+        ReplacementIndex index = mstAlgorithm.getReplacementIndex();
+
+        Edge nonTreeEdge = new Edge(3, 5, 6);
+        assertFalse(index.isTreeEdge(nonTreeEdge));
+        assertNull(index.getReplacement(nonTreeEdge));
+    }
+
+    @Test
+    void testGetReplacementsCoversEveryTreeEdge() {
+        MSTAlgorithm mstAlgorithm = new MSTAlgorithm(Graph.createSampleGraph());
+        List<Edge> mst = mstAlgorithm.buildMST();
+        Map<Edge, Edge> replacements = mstAlgorithm.getReplacementIndex().getReplacements();
+
+        assertEquals(mst.size(), replacements.size());
+        assertTrue(replacements.keySet().containsAll(mst));
+    }
+}
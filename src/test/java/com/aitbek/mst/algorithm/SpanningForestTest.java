@@ -0,0 +1,76 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.CompactGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpanningForestTest {
+
+    @Test
+    void testComponentsAndTrees() {
+        CompactGraph graph = CompactGraph.of(7,
+                new int[]{0, 1, 0, 3, 4, 3, 6},
+                new int[]{1, 2, 2, 4, 5, 5, 6},
+                new int[]{1, 2, 5, 1, 1, 3, 9});
+
+        SpanningForest forest = SpanningForest.of(graph);
+
+        assertEquals(3, forest.getComponentCount());
+        assertFalse(forest.isSpanningTree());
+        assertEquals(forest.getComponent(0), forest.getComponent(2));
+        assertNotEquals(forest.getComponent(0), forest.getComponent(3));
+        assertEquals(1, forest.getComponentSize(forest.getComponent(6)));
+        assertArrayEquals(new int[]{0, 1}, forest.getTreeEdges(forest.getComponent(0)));
+        assertArrayEquals(new int[]{3, 4}, forest.getTreeEdges(forest.getComponent(4)));
+        assertEquals(0, forest.getTreeEdges(forest.getComponent(6)).length);
+        assertEquals(3, forest.getComponentWeight(forest.getComponent(1)));
+        assertEquals(5, forest.getTotalWeight());
+    }
+
+    @Test
+    void testMatchesKruskalOnManyIslands() {
+        Random random = new Random(8);
+        int islands = 300;
+        int islandSize = 50;
+        int edges = 20_000;
+        int[] sources = new int[edges];
+        int[] destinations = new int[edges];
+        int[] weights = new int[edges];
+        for (int e = 0; e < edges; e++) {
+            int island = random.nextInt(islands) * islandSize;
+            sources[e] = island + random.nextInt(islandSize);
+            destinations[e] = island + random.nextInt(islandSize);
+            weights[e] = random.nextInt(100);
+        }
+        CompactGraph graph = CompactGraph.of(islands * islandSize + 10, sources, destinations, weights);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            SpanningForest forest = SpanningForest.of(graph, pool);
+            int[] expected = MSTAlgorithm.buildMST(graph);
+            int[] actual = forest.getEdgeIds();
+            Arrays.sort(expected);
+            Arrays.sort(actual);
+
+            assertArrayEquals(expected, actual);
+            assertEquals(MSTAlgorithm.calculateMSTWeight(graph, expected), forest.getTotalWeight());
+            assertEquals(graph.getVertices() - actual.length, forest.getComponentCount());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testConnectedGraphIsSpanningTree() {
+        CompactGraph graph = CompactGraph.of(3, new int[]{0, 1}, new int[]{1, 2}, new int[]{4, 4});
+        SpanningForest forest = MSTAlgorithm.buildSpanningForest(graph);
+
+        assertTrue(forest.isSpanningTree());
+        assertArrayEquals(new int[]{0, 1}, forest.getEdgeIds());
+    }
+}
@@ -0,0 +1,104 @@
+package com.aitbek.mst.algorithm;
+
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreeCutTest {
+
+    @Test
+    void testCutMatchesComponentsAfterRemoval() {
+        Random random = new Random(21);
+        Graph graph = new Graph(60);
+        for (int i = 1; i < 60; i++) {
+            graph.addEdge(random.nextInt(i), i, random.nextInt(10));
+        }
+        for (int i = 0; i < 100; i++) {
+            graph.addEdge(random.nextInt(60), random.nextInt(60), random.nextInt(10));
+        }
+
+        MSTAlgorithm mstAlgorithm = new MSTAlgorithm(graph);
+        List<Edge> mst = mstAlgorithm.buildMST();
+
+        for (Edge edge : mst) {
+            TreeCut cut = mstAlgorithm.getCut(edge);
+            List<Set<Integer>> components = mstAlgorithm.getComponentsAfterRemoval(edge);
+            Set<Integer> childSide = components.get(0).contains(cut.getChild()) ? components.get(0) : components.get(1);
+
+            assertEquals(childSide.size(), cut.getChildSideSize());
+            assertEquals(60 - childSide.size(), cut.getParentSideSize());
+            for (int v = 0; v < 60; v++) {
+                assertEquals(childSide.contains(v), cut.isOnChildSide(v));
+                assertEquals(!childSide.contains(v), cut.isOnParentSide(v));
+            }
+        }
+    }
+
+    @Test
+    void testSeparatesAndCrosses() {
+        MSTAlgorithm mstAlgorithm = new MSTAlgorithm(Graph.createSampleGraph());
+        mstAlgorithm.buildMST();
+
+        TreeCut cut = mstAlgorithm.getCut(new Edge(1, 3, 2));
+
+        assertEquals(new Edge(1, 3, 2), cut.getEdge());
+        assertTrue(cut.separates(0, 5));
+        assertFalse(cut.separates(4, 5));
+        assertTrue(cut.crosses(new Edge(2, 3, 4)));
+        assertFalse(cut.crosses(new Edge(0, 1, 4)));
+        assertEquals(3, cut.getChildSideSize());
+        assertEquals(3, cut.getParentSideSize());
+    }
+
+    @Test
+    void testNonTreeEdgeHasNoCut() {
+        MSTAlgorithm mstAlgorithm = new MSTAlgorithm(Graph.createSampleGraph());
+        mstAlgorithm.buildMST();
+
+        assertNull(mstAlgorithm.getCut(new Edge(3, 5, 6)));
+    }
+
+    @Test
+    void testOutOfRangeEdgeHasNoCut() {
+        Graph forest = new Graph(5);
+        forest.addEdge(0, 1, 1);
+        forest.addEdge(3, 4, 1);
+        MSTAlgorithm mstAlgorithm = new MSTAlgorithm(forest);
+        mstAlgorithm.buildMST();
+        Edge outside = new Edge(9, 9, 1);
+
+        assertNull(mstAlgorithm.getCut(outside));
+        assertNull(mstAlgorithm.findReplacementEdge(outside));
+        assertNull(mstAlgorithm.findReplacementEdges(List.of(outside)).get(outside));
+        assertEquals(-1, mstAlgorithm.getRootedTree().childOf(-1, 0));
+        assertEquals(List.of(Set.of(0, 1), Set.of(2), Set.of(3, 4)),
+                mstAlgorithm.getComponentsAfterRemoval(new Edge(0, 7, 1)));
+    }
+
+    @Test
+    void testCutIsScopedToItsTreeInForest() {
+        Graph forest = new Graph(5);
+        forest.addEdge(0, 1, 1);
+        forest.addEdge(1, 2, 1);
+        forest.addEdge(3, 4, 1);
+
+        MSTAlgorithm mstAlgorithm = new MSTAlgorithm(forest);
+        mstAlgorithm.buildMST();
+        TreeCut cut = mstAlgorithm.getCut(new Edge(1, 2, 1));
+        RootedTree tree = mstAlgorithm.getRootedTree();
+
+        assertEquals(1, cut.getChildSideSize());
+        assertEquals(2, cut.getParentSideSize());
+        assertFalse(cut.isOnChildSide(3));
+        assertFalse(cut.isOnParentSide(3));
+        assertFalse(cut.separates(2, 4));
+        assertTrue(tree.isAncestor(0, 2));
+        assertFalse(tree.isAncestor(0, 4));
+    }
+}
@@ -2,6 +2,9 @@ package com.aitbek.mst.algorithm;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class UnionFindTest {
@@ -72,4 +75,46 @@ class UnionFindTest {
 
         assertTrue(largeUF.isConnected(0, 999));
     }
+
+    @Test
+    void testComponentCountAndSize() {
+        assertEquals(5, uf.getComponentCount());
+
+        uf.union(0, 1);
+        uf.union(1, 2);
+
+        assertEquals(3, uf.getComponentCount());
+        assertEquals(3, uf.getComponentSize(2));
+        assertEquals(1, uf.getComponentSize(4));
+    }
+
+    @Test
+    void testReset() {
+        uf.union(0, 1);
+        uf.union(2, 3);
+        uf.reset();
+
+        assertEquals(5, uf.getComponentCount());
+        assertFalse(uf.isConnected(0, 1));
+        assertTrue(uf.union(0, 1));
+    }
+
+    @Test
+    void testLongChainDoesNotOverflowStack() throws ReflectiveOperationException {
+        int size = 2_000_000;
+        UnionFind chain = new UnionFind(size);
+        Field parentField = UnionFind.class.getDeclaredField("parent");
+        parentField.setAccessible(true);
+        int[] parent = (int[]) parentField.get(chain);
+        for (int i = 0; i < size - 1; i++) {
+            parent[i] = i + 1;
+        }
+        parent[size - 1] = -size;
+
+        assertEquals(size - 1, chain.root(0));
+        assertEquals(size - 1, chain.find(0));
+        assertEquals(size, chain.getComponentSize(0));
+        assertTrue(chain.isConnected(0, size - 1));
+        assertTrue(chain.isConnected(1, size / 2));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.aitbek.mst.cli;
+
+import com.aitbek.mst.io.MappedSnapshot;
+import com.aitbek.mst.io.SnapshotFormat;
+import com.aitbek.mst.model.Graph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRunnerTest {
+
+    private String[] runQueries(BatchRunner.Format format, String queries) throws IOException {
+        BatchRunner runner = new BatchRunner(Graph.createSampleGraph(), format);
+        StringWriter out = new StringWriter();
+        runner.run(new BufferedReader(new StringReader(queries)), out);
+        return out.toString().split("\n");
+    }
+
+    @Test
+    void testCsvOutput() throws IOException {
+        String[] lines = runQueries(BatchRunner.Format.CSV, "1 3 2\n3 1\n# comment\n\n3 5 6\n");
+
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("source,destination,weight,status"));
+        assertEquals("1,3,2,ok,2,3,4,13", lines[1]);
+        assertEquals("3,1,2,ok,2,3,4,13", lines[2]);
+        assertEquals("3,5,6,not_in_mst,,,,11", lines[3]);
+    }
+
+    @Test
+    void testJsonLinesOutput() throws IOException {
+        String[] lines = runQueries(BatchRunner.Format.JSONL, "1,2,1\n0 5\nbad \"query\"\n");
+
+        assertEquals(3, lines.length);
+        assertEquals("{\"source\":1,\"destination\":2,\"weight\":1,\"status\":\"ok\","
+                + "\"replacement\":{\"source\":0,\"destination\":1,\"weight\":4},\"newWeight\":14}", lines[0]);
+        assertEquals("{\"source\":0,\"destination\":5,\"weight\":null,\"status\":\"not_in_mst\","
+                + "\"replacement\":null,\"newWeight\":11}", lines[1]);
+        assertEquals("{\"status\":\"invalid\",\"query\":\"bad \\\"query\\\"\"}", lines[2]);
+    }
+
+    @Test
+    void testSnapshotBackedRunnerMatchesRebuild(@TempDir Path tempDir) throws IOException {
+        Graph graph = Graph.createSampleGraph();
+        Path file = tempDir.resolve("sample.snapshot");
+        SnapshotFormat.write(file, graph);
+        String queries = "1 3 2\n3 1\n1,2,1\n0 5\n3 5 6\n9 9\nbad\n";
+
+        String[] expected = runQueries(BatchRunner.Format.CSV, queries);
+        try (MappedSnapshot snapshot = MappedSnapshot.open(file, graph)) {
+            BatchRunner runner = new BatchRunner(graph.getVertices(), snapshot, snapshot.getTotalWeight(),
+                    BatchRunner.Format.CSV);
+            StringWriter out = new StringWriter();
+            runner.run(new BufferedReader(new StringReader(queries)), out);
+
+            assertArrayEquals(expected, out.toString().split("\n"));
+        }
+    }
+
+    @Test
+    void testBridgeHasNoReplacement() throws IOException {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(1, 2, 5);
+        BatchRunner runner = new BatchRunner(graph, BatchRunner.Format.CSV);
+        StringWriter out = new StringWriter();
+
+        int processed = runner.run(new BufferedReader(new StringReader("1 2\n7 9\n7,\"x\"\n")), out);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(3, processed);
+        assertEquals(7, runner.getTotalWeight());
+        assertEquals("1,2,5,no_replacement,,,,2", lines[1]);
+        assertEquals("7 9,,,invalid,,,,", lines[2]);
+        assertEquals("\"7,\"\"x\"\"\",,,invalid,,,,", lines[3]);
+    }
+
+    @Test
+    void testOutOfRangeVerticesAreInvalid() throws IOException {
+        String[] lines = runQueries(BatchRunner.Format.JSONL, "9 9 1\n-1 2 3\n1 6\n1 3 2\n");
+
+        assertEquals(4, lines.length);
+        assertEquals("{\"status\":\"invalid\",\"query\":\"9 9 1\"}", lines[0]);
+        assertEquals("{\"status\":\"invalid\",\"query\":\"-1 2 3\"}", lines[1]);
+        assertEquals("{\"status\":\"invalid\",\"query\":\"1 6\"}", lines[2]);
+        assertTrue(lines[3].contains("\"status\":\"ok\""));
+    }
+}
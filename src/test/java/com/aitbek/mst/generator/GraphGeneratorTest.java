@@ -0,0 +1,140 @@
+package com.aitbek.mst.generator;
+
+import com.aitbek.mst.algorithm.MSTAlgorithm;
+import com.aitbek.mst.io.MappedGraph;
+import com.aitbek.mst.model.PrimitiveGraph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphGeneratorTest {
+
+    @Test
+    void testOutputIndependentOfParallelism() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool wide = new ForkJoinPool(4);
+        try {
+            GraphGenerator sequential = new GraphGenerator(single, 1000);
+            GraphGenerator parallel = new GraphGenerator(wide, 1000);
+
+            assertSameGraph(sequential.erdosRenyi(50_000, 300_000, 3), parallel.erdosRenyi(50_000, 300_000, 3));
+            assertSameGraph(sequential.rmat(16, 300_000, 3), parallel.rmat(16, 300_000, 3));
+            assertSameGraph(sequential.grid(300, 400, 3), parallel.grid(300, 400, 3));
+            assertSameGraph(sequential.randomGeometric(200_000, 6, 3), parallel.randomGeometric(200_000, 6, 3));
+            assertSameGraph(sequential.complete(600, 3), parallel.complete(600, 3));
+        } finally {
+            single.shutdown();
+            wide.shutdown();
+        }
+    }
+
+    @Test
+    void testSeedChangesOutput() {
+        GraphGenerator generator = new GraphGenerator();
+        GeneratedGraph first = generator.erdosRenyi(1000, 5000, 1);
+        GeneratedGraph second = generator.erdosRenyi(1000, 5000, 2);
+
+        boolean differs = false;
+        for (int e = 0; e < first.getEdgeCount() && !differs; e++) {
+            differs = first.getSource(e) != second.getSource(e) || first.getWeight(e) != second.getWeight(e);
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    void testCompleteAndPreferentialAttachment() {
+        GraphGenerator generator = new GraphGenerator(ForkJoinPool.commonPool(), 10);
+        GeneratedGraph complete = generator.complete(50, 5);
+        GeneratedGraph powerLaw = generator.preferentialAttachment(1000, 3, 5);
+
+        assertEquals(50 * 49 / 2, complete.getEdgeCount());
+        assertEquals(49, MSTAlgorithm.buildMST(complete).length);
+        assertEquals(3 + 3 * (1000 - 3), powerLaw.getEdgeCount());
+        assertEquals(999, MSTAlgorithm.buildMST(powerLaw).length);
+        assertThrows(IllegalArgumentException.class, () -> generator.preferentialAttachment(10, 0, 5));
+    }
+
+    @Test
+    void testErdosRenyiBounds() {
+        GeneratedGraph graph = new GraphGenerator(ForkJoinPool.commonPool(), 10).erdosRenyi(100, 10_000, 5);
+
+        assertEquals(100, graph.getVertices());
+        assertEquals(10_000, graph.getEdgeCount());
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            assertNotEquals(graph.getSource(e), graph.getDestination(e));
+            assertTrue(graph.getDestination(e) >= 0 && graph.getDestination(e) < 100);
+            assertTrue(graph.getWeight(e) >= 1 && graph.getWeight(e) <= 10);
+        }
+    }
+
+    @Test
+    void testRmatIsSkewed() {
+        GeneratedGraph graph = new GraphGenerator().rmat(12, 40_000, 9);
+        int[] degree = new int[graph.getVertices()];
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            degree[graph.getSource(e)]++;
+            degree[graph.getDestination(e)]++;
+        }
+
+        assertEquals(4096, graph.getVertices());
+        assertTrue(degree[0] > 20 * 2 * 40_000 / 4096);
+    }
+
+    @Test
+    void testGridStructure() {
+        GeneratedGraph graph = new GraphGenerator().grid(3, 4, 1);
+
+        assertEquals(12, graph.getVertices());
+        assertEquals(3 * 3 + 2 * 4, graph.getEdgeCount());
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            int difference = graph.getDestination(e) - graph.getSource(e);
+            assertTrue(difference == 1 && graph.getSource(e) % 4 != 3 || difference == 4);
+        }
+        assertEquals(11, MSTAlgorithm.buildMST(graph).length);
+    }
+
+    @Test
+    void testGeometricAverageDegree() {
+        GeneratedGraph graph = new GraphGenerator().randomGeometric(100_000, 8, 11);
+        double averageDegree = 2.0 * graph.getEdgeCount() / graph.getVertices();
+
+        assertEquals(8, averageDegree, 0.5);
+    }
+
+    @Test
+    void testWriteToBinaryFormat(@TempDir Path tempDir) throws IOException {
+        GeneratedGraph graph = new GraphGenerator().erdosRenyi(2000, 20_000, 4);
+        Path file = tempDir.resolve("er.bin");
+        graph.writeTo(file);
+
+        try (MappedGraph mapped = MappedGraph.open(file)) {
+            assertSameGraph(graph, mapped);
+        }
+        assertEquals(graph.toCompactGraph().getEdgeCount(), graph.getEdgeCount());
+    }
+
+    @Test
+    void testRejectsInvalidParameters() {
+        GraphGenerator generator = new GraphGenerator();
+
+        assertThrows(IllegalArgumentException.class, () -> generator.erdosRenyi(1, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> generator.rmat(31, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> generator.rmat(4, 10, 0.6, 0.3, 0.3, 0));
+        assertThrows(IllegalArgumentException.class, () -> new GraphGenerator(ForkJoinPool.commonPool(), 0));
+    }
+
+    private static void assertSameGraph(PrimitiveGraph expected, PrimitiveGraph actual) {
+        assertEquals(expected.getVertices(), actual.getVertices());
+        assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+        for (int e = 0; e < expected.getEdgeCount(); e++) {
+            assertEquals(expected.getSource(e), actual.getSource(e));
+            assertEquals(expected.getDestination(e), actual.getDestination(e));
+            assertEquals(expected.getWeight(e), actual.getWeight(e));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.aitbek.mst.io;
+
+import com.aitbek.mst.algorithm.MSTAlgorithm;
+import com.aitbek.mst.model.CompactGraph;
+import com.aitbek.mst.model.Graph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryGraphFormatTest {
+
+    @Test
+    void testRoundTripSampleGraph(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("sample.bin");
+        Graph graph = Graph.createSampleGraph();
+        BinaryGraphFormat.write(file, graph);
+
+        try (MappedGraph mapped = MappedGraph.open(file)) {
+            assertEquals(6, mapped.getVertices());
+            assertEquals(8, mapped.getEdgeCount());
+            assertEquals(BinaryGraphFormat.SHORT_WEIGHTS, mapped.getWeightWidth());
+            assertEquals(graph.getEdges(), Graph.from(mapped).getEdges());
+            assertEquals(11, MSTAlgorithm.calculateMSTWeight(mapped, MSTAlgorithm.buildMST(mapped)));
+        }
+    }
+
+    @Test
+    void testIntWeightsAndLargeGraph(@TempDir Path tempDir) throws IOException {
+        Random random = new Random(1);
+        int vertices = 5000;
+        int edges = 40000;
+        int[] sources = new int[edges];
+        int[] destinations = new int[edges];
+        int[] weights = new int[edges];
+        for (int i = 0; i < edges; i++) {
+            sources[i] = random.nextInt(vertices);
+            destinations[i] = random.nextInt(vertices);
+            weights[i] = random.nextInt(1_000_000) - 500_000;
+        }
+        CompactGraph compact = CompactGraph.of(vertices, sources, destinations, weights);
+
+        Path file = tempDir.resolve("large.bin");
+        BinaryGraphFormat.write(file, compact);
+        assertEquals(BinaryGraphFormat.fileSize(edges, BinaryGraphFormat.INT_WEIGHTS), Files.size(file));
+
+        try (MappedGraph mapped = MappedGraph.open(file)) {
+            assertEquals(BinaryGraphFormat.INT_WEIGHTS, mapped.getWeightWidth());
+            for (int i = 0; i < edges; i++) {
+                assertEquals(compact.getWeight(i), mapped.getWeight(i));
+                assertEquals(compact.getSource(i), mapped.getSource(i));
+                assertEquals(compact.getDestination(i), mapped.getDestination(i));
+            }
+            assertArrayEquals(MSTAlgorithm.buildMST(compact), MSTAlgorithm.buildMST(mapped));
+        }
+    }
+
+    @Test
+    void testRejectsShortWeightOverflow(@TempDir Path tempDir) {
+        CompactGraph compact = CompactGraph.of(2, new int[]{0}, new int[]{1}, new int[]{70000});
+
+        assertThrows(IllegalArgumentException.class,
+                () -> BinaryGraphFormat.write(tempDir.resolve("bad.bin"), compact, BinaryGraphFormat.SHORT_WEIGHTS));
+    }
+
+    @Test
+    void testRejectsInvalidFiles(@TempDir Path tempDir) throws IOException {
+        Path tooSmall = tempDir.resolve("small.bin");
+        Files.write(tooSmall, new byte[4]);
+        assertThrows(IOException.class, () -> MappedGraph.open(tooSmall));
+
+        Path wrongMagic = tempDir.resolve("magic.bin");
+        Files.write(wrongMagic, new byte[BinaryGraphFormat.HEADER_BYTES]);
+        assertThrows(IOException.class, () -> MappedGraph.open(wrongMagic));
+
+        Path truncated = tempDir.resolve("truncated.bin");
+        BinaryGraphFormat.write(truncated, Graph.createSampleGraph());
+        byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> MappedGraph.open(truncated));
+
+        Path badVertex = tempDir.resolve("vertex.bin");
+        BinaryGraphFormat.write(badVertex, Graph.createSampleGraph());
+        bytes = Files.readAllBytes(badVertex);
+        int offset = (int) BinaryGraphFormat.destinationsOffset(8) + 3 * Integer.BYTES;
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(offset, 6);
+        Files.write(badVertex, bytes);
+        IOException error = assertThrows(IOException.class, () -> MappedGraph.open(badVertex));
+        assertTrue(error.getMessage().contains("vertex 6"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.aitbek.mst.io;
+
+import com.aitbek.mst.algorithm.MSTAlgorithm;
+import com.aitbek.mst.algorithm.ReplacementIndex;
+import com.aitbek.mst.algorithm.RootedTree;
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.Graph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotFormatTest {
+
+    @Test
+    void testSampleGraphRoundTrip(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("sample.snapshot");
+        Graph graph = Graph.createSampleGraph();
+        SnapshotFormat.write(file, graph);
+
+        try (MappedSnapshot snapshot = MappedSnapshot.open(file, graph)) {
+            assertEquals(6, snapshot.getVertices());
+            assertEquals(8, snapshot.getEdgeCount());
+            assertEquals(5, snapshot.getTreeEdgeCount());
+            assertEquals(1, snapshot.getComponentCount());
+            assertEquals(11, snapshot.getTotalWeight());
+            assertEquals(SnapshotFormat.checksum(graph), snapshot.getChecksum());
+            assertArrayEquals(MSTAlgorithm.buildMST(graph), snapshot.getTreeEdgeIds());
+            for (int rank = 0; rank < graph.getEdgeCount(); rank++) {
+                assertEquals(graph.getSortedEdgeId(rank), snapshot.getSortedEdgeId(rank));
+            }
+
+            assertTrue(snapshot.isTreeEdge(new Edge(3, 1, 2)));
+            assertFalse(snapshot.isTreeEdge(new Edge(1, 3, 7)));
+            assertEquals(new Edge(1, 3, 2), snapshot.findTreeEdge(3, 1));
+            assertNull(snapshot.findTreeEdge(0, 5));
+            assertNull(snapshot.findTreeEdge(-1, 9));
+            assertEquals(new Edge(2, 3, 4), snapshot.getReplacement(new Edge(1, 3, 2)));
+        }
+    }
+
+    @Test
+    void testMatchesInMemoryIndexes(@TempDir Path tempDir) throws IOException {
+        Random random = new Random(11);
+        int vertices = 400;
+        Graph graph = new Graph(vertices);
+        for (int i = 0; i < 1500; i++) {
+            int source = random.nextInt(vertices - 20);
+            int destination = random.nextInt(vertices - 20);
+            graph.addEdge(source, destination, random.nextInt(50) - 10);
+        }
+        graph.addEdge(vertices - 5, vertices - 4, 3);
+
+        Path file = tempDir.resolve("random.snapshot");
+        SnapshotFormat.write(file, graph);
+
+        MSTAlgorithm algorithm = new MSTAlgorithm(graph);
+        List<Edge> mst = algorithm.buildMST();
+        ReplacementIndex index = algorithm.getReplacementIndex();
+        RootedTree tree = index.getTree();
+
+        try (MappedSnapshot snapshot = MappedSnapshot.open(file, graph)) {
+            assertEquals(mst, snapshot.getMST());
+            assertEquals(tree.getComponentCount(), snapshot.getComponentCount());
+            assertEquals(mst.stream().mapToLong(Edge::getWeight).sum(), snapshot.getTotalWeight());
+
+            for (int v = 0; v < vertices; v++) {
+                assertEquals(tree.getParent(v), snapshot.getParent(v));
+                assertEquals(tree.getRoot(v), snapshot.getRoot(v));
+                assertEquals(tree.getEntry(v), snapshot.getEntry(v));
+                assertEquals(tree.getExit(v), snapshot.getExit(v));
+            }
+            for (Edge edge : mst) {
+                assertTrue(snapshot.isTreeEdge(edge));
+                assertEquals(index.getReplacement(edge), snapshot.getReplacement(edge));
+            }
+            for (Edge edge : graph.getEdges()) {
+                assertEquals(index.isTreeEdge(edge), snapshot.isTreeEdge(edge));
+            }
+        }
+    }
+
+    @Test
+    void testRejectsSnapshotOfDifferentGraph(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("stale.snapshot");
+        Graph graph = Graph.createSampleGraph();
+        SnapshotFormat.write(file, graph);
+
+        Graph changed = Graph.createSampleGraph();
+        changed.addEdge(0, 5, 1);
+        assertThrows(IOException.class, () -> MappedSnapshot.open(file, changed));
+
+        Graph reweighted = new Graph(6);
+        for (Edge edge : graph.getEdges()) {
+            reweighted.addEdge(edge.getSource(), edge.getDestination(), edge.getWeight() + 1);
+        }
+        assertNotEquals(SnapshotFormat.checksum(graph), SnapshotFormat.checksum(reweighted));
+        assertThrows(IOException.class, () -> MappedSnapshot.open(file, reweighted));
+    }
+
+    @Test
+    void testRejectsCorruptOrTruncatedFile(@TempDir Path tempDir) throws IOException {
+        Graph graph = Graph.createSampleGraph();
+        Path file = tempDir.resolve("corrupt.snapshot");
+        SnapshotFormat.write(file, graph);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, SnapshotFormat.VERSION + 1), 4);
+        }
+        assertThrows(IOException.class, () -> MappedSnapshot.open(file, graph));
+
+        SnapshotFormat.write(file, graph);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 4);
+        }
+        assertThrows(IOException.class, () -> MappedSnapshot.open(file, graph));
+    }
+}
@@ -8,6 +8,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -62,9 +64,43 @@ class PerformanceMetricsTest {
         List<String> lines = Files.readAllLines(csvFile);
         String[] headers = lines.get(0).split(",");
 
-        assertEquals(5, headers.length);
+        assertEquals(11, headers.length);
         assertEquals("Operation", headers[0]);
-        assertEquals("Duration(ns)", headers[1]);
+        assertEquals("Count", headers[1]);
+        assertEquals("P99(ms)", headers[5]);
+    }
+
+    @Test
+    void testCSVIsLocaleIndependent(@TempDir Path tempDir) throws IOException {
+        Locale original = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            metrics.recordOperation("Build MST", 364800L, 6, 8);
+
+            Path csvFile = tempDir.resolve("locale_test.csv");
+            metrics.exportToCSV(csvFile.toString());
+
+            String[] row = Files.readAllLines(csvFile).get(1).split(",");
+            assertEquals(11, row.length);
+            assertEquals("1", row[1]);
+            assertEquals("6", row[9]);
+            assertEquals("8", row[10]);
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+
+    @Test
+    void testRepeatedOperationsAggregate() {
+        for (int i = 1; i <= 100; i++) {
+            metrics.recordOperation("Find Replacement", i * 1000L, 10, 20);
+        }
+
+        Map<String, HistogramSnapshot> snapshot = metrics.snapshotAndReset();
+        assertEquals(1, snapshot.size());
+        assertEquals(100, snapshot.get("Find Replacement").getCount());
+        assertEquals(100_000, snapshot.get("Find Replacement").getMax());
+        assertEquals(0, metrics.snapshot().get("Find Replacement").getCount());
     }
 
     @Test
@@ -0,0 +1,57 @@
+package com.aitbek.mst.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactGraphTest {
+
+    @Test
+    void testFromGraph() {
+        Graph graph = Graph.createSampleGraph();
+        CompactGraph compact = CompactGraph.from(graph);
+
+        assertEquals(6, compact.getVertices());
+        assertEquals(8, compact.getEdgeCount());
+
+        List<Edge> edges = graph.getEdges();
+        for (int i = 0; i < edges.size(); i++) {
+            assertEquals(edges.get(i), compact.toEdge(i));
+        }
+    }
+
+    @Test
+    void testAdjacency() {
+        CompactGraph compact = CompactGraph.from(Graph.createSampleGraph());
+
+        assertEquals(3, compact.getDegree(1));
+        int weightSum = 0;
+        for (int slot = compact.getAdjacencyStart(3); slot < compact.getAdjacencyEnd(3); slot++) {
+            int edgeId = compact.getSlotEdgeId(slot);
+            assertEquals(compact.getWeight(edgeId), compact.getSlotWeight(slot));
+            assertTrue(compact.getSource(edgeId) == 3 || compact.getDestination(edgeId) == 3);
+            weightSum += compact.getSlotWeight(slot);
+        }
+        assertEquals(14, weightSum);
+    }
+
+    @Test
+    void testDirectLoad() {
+        CompactGraph compact = CompactGraph.of(3, new int[]{0, 1}, new int[]{1, 2}, new int[]{4, 7});
+
+        assertEquals(2, compact.getEdgeCount());
+        assertEquals(1, compact.getDegree(0));
+        assertEquals(2, compact.getDegree(1));
+        assertEquals(new Edge(1, 2, 7), compact.toEdge(1));
+    }
+
+    @Test
+    void testRejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CompactGraph.of(2, new int[]{0}, new int[]{2}, new int[]{1}));
+        assertThrows(IllegalArgumentException.class,
+                () -> CompactGraph.of(2, new int[]{0}, new int[]{1}, new int[0]));
+    }
+}
@@ -49,6 +49,18 @@ class GraphTest {
         assertEquals(2, adjacent.size());
     }
 
+    @Test
+    void testAdjacentEdgesAfterLaterAdds() {
+        graph.addEdge(0, 1, 5);
+        assertEquals(List.of(new Edge(0, 1, 5)), graph.getAdjacentEdges(0));
+
+        graph.addEdge(2, 0, 3);
+        graph.addEdge(1, 2, 4);
+
+        assertEquals(List.of(new Edge(0, 1, 5), new Edge(0, 2, 3)), graph.getAdjacentEdges(0));
+        assertEquals(List.of(new Edge(2, 0, 3), new Edge(2, 1, 4)), graph.getAdjacentEdges(2));
+    }
+
     @Test
     void testSampleGraph() {
         Graph sampleGraph = Graph.createSampleGraph();
@@ -69,4 +81,33 @@ class GraphTest {
         assertEquals(1, singleVertex.getVertices());
         assertEquals(0, singleVertex.getEdges().size());
     }
+
+    @Test
+    void testSortedEdges() {
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(1, 2, 3);
+        graph.addEdge(2, 3, 7);
+
+        List<Edge> sorted = graph.getSortedEdges();
+        assertEquals(3, sorted.size());
+        assertEquals(3, sorted.get(0).getWeight());
+        assertEquals(7, sorted.get(2).getWeight());
+        assertThrows(UnsupportedOperationException.class, () -> sorted.add(new Edge(0, 3, 1)));
+    }
+
+    @Test
+    void testSortedEdgesMergeNewEdgesStably() {
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(1, 2, 3);
+        List<Edge> before = graph.getSortedEdges();
+
+        graph.addEdge(2, 3, 3);
+        graph.addEdge(0, 3, 1);
+        List<Edge> after = graph.getSortedEdges();
+
+        assertEquals(2, before.size());
+        assertEquals(4, graph.getEdgeCount());
+        assertEquals(List.of(new Edge(0, 3, 1), new Edge(1, 2, 3), new Edge(2, 3, 3), new Edge(0, 1, 5)), after);
+        assertEquals(graph.getEdges().get(1), after.get(1));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.aitbek.mst.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedEdgeStoreTest {
+
+    @Test
+    void testAddAndRead() {
+        PackedEdgeStore store = new PackedEdgeStore(5, 1);
+
+        assertEquals(0, store.add(0, 4, 7));
+        assertEquals(1, store.add(4, 3, -2));
+        assertEquals(2, store.add(2, 2, Integer.MAX_VALUE));
+
+        assertEquals(3, store.getEdgeCount());
+        assertEquals(4, store.getSource(1));
+        assertEquals(3, store.getDestination(1));
+        assertEquals(-2, store.getWeight(1));
+        assertEquals(Integer.MAX_VALUE, store.getWeight(2));
+        assertEquals(new Edge(0, 4, 7), store.toEdge(0));
+    }
+
+    @Test
+    void testSortedOrderIsStableAcrossIncrementalMerges() {
+        PackedEdgeStore store = new PackedEdgeStore(4);
+        store.add(0, 1, 5);
+        store.add(1, 2, 3);
+        assertArrayEquals(new int[]{1, 0}, store.getSortedEdgeIds());
+
+        store.add(2, 3, 3);
+        store.add(0, 3, -1);
+        store.add(0, 2, 5);
+
+        assertArrayEquals(new int[]{3, 1, 2, 0, 4}, store.getSortedEdgeIds());
+        assertEquals(3, store.getSortedEdgeId(0));
+        assertTrue(store.getSortKey(1) < store.getSortKey(2));
+    }
+
+    @Test
+    void testViewsAreSnapshotsAndUnmodifiable() {
+        PackedEdgeStore store = new PackedEdgeStore(3);
+        store.add(0, 1, 2);
+        store.add(1, 2, 1);
+
+        List<Edge> all = store.asList();
+        List<Edge> sorted = store.asSortedList();
+        store.add(0, 2, 0);
+
+        assertEquals(List.of(new Edge(0, 1, 2), new Edge(1, 2, 1)), all);
+        assertEquals(List.of(new Edge(1, 2, 1), new Edge(0, 1, 2)), sorted);
+        assertEquals(new Edge(0, 2, 0), store.asSortedList().get(0));
+        assertThrows(UnsupportedOperationException.class, () -> all.add(new Edge(0, 1, 1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> sorted.get(2));
+    }
+
+    @Test
+    void testAdjacencyIsMaintainedAcrossAdds() {
+        PackedEdgeStore store = new PackedEdgeStore(4, 1);
+        store.add(0, 1, 5);
+        store.add(2, 0, 3);
+
+        assertEquals(2, store.getDegree(0));
+        int first = store.getFirstSlot(0);
+        assertEquals(0, store.getSlotEdgeId(first));
+        assertEquals(1, store.getSlotTarget(first));
+        int second = store.getNextSlot(first);
+        assertEquals(1, store.getSlotEdgeId(second));
+        assertEquals(2, store.getSlotTarget(second));
+        assertEquals(-1, store.getNextSlot(second));
+
+        store.add(3, 3, 1);
+        store.add(0, 3, 2);
+
+        assertEquals(3, store.getDegree(0));
+        assertEquals(3, store.getDegree(3));
+        assertEquals(3, store.getSlotEdgeId(store.getNextSlot(second)));
+        int loop = store.getFirstSlot(3);
+        assertEquals(3, store.getSlotTarget(loop));
+        assertEquals(3, store.getSlotTarget(store.getNextSlot(loop)));
+        assertEquals(0, store.getSlotTarget(store.getNextSlot(store.getNextSlot(loop))));
+        assertEquals(1, store.getDegree(1));
+        assertEquals(-1, store.getNextSlot(store.getFirstSlot(1)));
+    }
+
+    @Test
+    void testRejectsVertexOutOfRange() {
+        PackedEdgeStore store = new PackedEdgeStore(3);
+
+        assertThrows(IllegalArgumentException.class, () -> store.add(0, 3, 1));
+        assertThrows(IllegalArgumentException.class, () -> store.add(-1, 0, 1));
+    }
+}
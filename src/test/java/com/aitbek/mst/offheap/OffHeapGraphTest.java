@@ -0,0 +1,175 @@
+package com.aitbek.mst.offheap;
+
+import com.aitbek.mst.algorithm.EdgeOrdering;
+import com.aitbek.mst.algorithm.MSTAlgorithm;
+import com.aitbek.mst.model.CompactGraph;
+import com.aitbek.mst.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapGraphTest {
+
+    @Test
+    void testSampleGraphMST() {
+        Graph sample = Graph.createSampleGraph();
+        try (OffHeapGraph graph = OffHeapGraph.copyOf(sample);
+             OffHeapLongArray mst = MSTAlgorithm.buildMST(graph)) {
+            assertEquals(6, graph.getVertices());
+            assertEquals(8, graph.getEdgeCount());
+            assertEquals(5, mst.length());
+            assertEquals(11, MSTAlgorithm.calculateMSTWeight(graph, mst));
+
+            int[] expected = MSTAlgorithm.buildMST(sample);
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], mst.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testSortMatchesComparisonOrderWithNegativeAndWideWeights() {
+        Random random = new Random(3);
+        Graph source = new Graph(200);
+        for (int i = 0; i < 5000; i++) {
+            int weight = i % 3 == 0 ? random.nextInt() : random.nextInt(50) - 25;
+            source.addEdge(random.nextInt(200), random.nextInt(200), weight);
+        }
+
+        int[] expected = EdgeOrdering.COMPARISON.sort(source);
+        try (OffHeapGraph graph = OffHeapGraph.copyOf(source);
+             OffHeapLongArray sorted = graph.sortEdgeIds()) {
+            assertEquals(expected.length, sorted.length());
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], sorted.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testForestProducesShortResult() {
+        try (OffHeapGraph graph = OffHeapGraph.allocate(5, 4)) {
+            graph.addEdge(0, 1, 2);
+            graph.addEdge(3, 4, 1);
+
+            try (OffHeapLongArray mst = MSTAlgorithm.buildMST(graph)) {
+                assertEquals(2, mst.length());
+                assertEquals(1, mst.get(0));
+                assertEquals(0, mst.get(1));
+            }
+        }
+    }
+
+    @Test
+    void testAdjacencyMatchesCompactGraph() {
+        Graph source = Graph.createSampleGraph();
+        CompactGraph compact = CompactGraph.from(source);
+
+        try (OffHeapGraph graph = OffHeapGraph.copyOf(source)) {
+            assertThrows(IllegalStateException.class, () -> graph.getAdjacencyStart(0));
+            graph.buildAdjacency();
+
+            assertTrue(graph.hasAdjacency());
+            for (int v = 0; v < compact.getVertices(); v++) {
+                assertEquals(compact.getAdjacencyStart(v), graph.getAdjacencyStart(v));
+                assertEquals(compact.getDegree(v), graph.getDegree(v));
+                for (int slot = compact.getAdjacencyStart(v); slot < compact.getAdjacencyEnd(v); slot++) {
+                    assertEquals(compact.getTarget(slot), graph.getTarget(slot));
+                    assertEquals(compact.getSlotEdgeId(slot), graph.getSlotEdgeId(slot));
+                }
+            }
+            assertThrows(IllegalStateException.class, () -> graph.addEdge(0, 1, 1));
+        }
+    }
+
+    @Test
+    void testSharedReadOnlyAcrossThreads() throws Exception {
+        Random random = new Random(5);
+        CompactGraph source = CompactGraph.of(1000, random.ints(20_000, 0, 1000).toArray(),
+                random.ints(20_000, 0, 1000).toArray(), random.ints(20_000, 0, 100).toArray());
+        long expected = MSTAlgorithm.calculateMSTWeight(source, MSTAlgorithm.buildMST(source));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (OffHeapGraph graph = OffHeapGraph.copyOf(source)) {
+            Future<?>[] results = new Future<?>[4];
+            for (int t = 0; t < results.length; t++) {
+                results[t] = executor.submit(() -> {
+                    try (OffHeapLongArray mst = MSTAlgorithm.buildMST(graph)) {
+                        return MSTAlgorithm.calculateMSTWeight(graph, mst);
+                    }
+                });
+            }
+            for (Future<?> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testCloseWaitsForConcurrentReaders() throws Exception {
+        OffHeapGraph graph = OffHeapGraph.allocate(2, 1 << 14);
+        for (int i = 0; i < 1 << 14; i++) {
+            graph.addEdge(0, 1, i);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch started = new CountDownLatch(4);
+            Future<?>[] readers = new Future<?>[4];
+            for (int t = 0; t < readers.length; t++) {
+                readers[t] = executor.submit(() -> {
+                    started.countDown();
+                    long sum = 0;
+                    while (true) {
+                        try (OffHeapAccess access = graph.open()) {
+                            long scan = 0;
+                            for (long e = 0; e < graph.getEdgeCount(); e++) {
+                                scan += graph.getWeight(e);
+                            }
+                            assertEquals((1L << 14) * ((1 << 14) - 1) / 2, scan);
+                            sum += scan;
+                        }
+                        if (sum < 0) {
+                            return sum;
+                        }
+                    }
+                });
+            }
+
+            started.await();
+            graph.close();
+            for (Future<?> reader : readers) {
+                ExecutionException failure = assertThrows(ExecutionException.class, reader::get);
+                assertInstanceOf(IllegalStateException.class, failure.getCause());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testLifecycleAndCapacity() {
+        OffHeapGraph graph = OffHeapGraph.allocate(3, 1);
+        graph.addEdge(0, 1, 1);
+
+        assertThrows(IllegalStateException.class, () -> graph.addEdge(1, 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapGraph.allocate(3, 2).addEdge(0, 3, 1));
+
+        OffHeapAccess access = graph.open();
+        access.close();
+        access.close();
+        graph.close();
+        assertThrows(IllegalStateException.class, () -> graph.getWeight(0));
+        assertThrows(IllegalStateException.class, graph::open);
+        graph.close();
+    }
+}
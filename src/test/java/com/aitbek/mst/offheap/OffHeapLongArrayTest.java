@@ -0,0 +1,62 @@
+package com.aitbek.mst.offheap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapLongArrayTest {
+
+    @Test
+    void testValuesAcrossChunkBoundaries() {
+        try (OffHeapLongArray longs = OffHeapLongArray.allocate(1000, 6);
+             OffHeapIntArray ints = OffHeapIntArray.allocate(1000, 6)) {
+            for (long i = 0; i < 1000; i++) {
+                longs.set(i, i * 0x1_0000_0001L - 7);
+                ints.set(i, (int) (i * 31) - 500);
+            }
+            for (long i = 0; i < 1000; i++) {
+                assertEquals(i * 0x1_0000_0001L - 7, longs.get(i));
+                assertEquals((int) (i * 31) - 500, ints.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testCopyOfTruncatesAndExtends() {
+        try (OffHeapLongArray array = OffHeapLongArray.allocate(4)) {
+            for (long i = 0; i < 4; i++) {
+                array.set(i, i + 10);
+            }
+
+            try (OffHeapLongArray shorter = array.copyOf(2);
+                 OffHeapLongArray longer = array.copyOf(6)) {
+                assertEquals(2, shorter.length());
+                assertEquals(11, shorter.get(1));
+                assertEquals(13, longer.get(3));
+                assertEquals(0, longer.get(5));
+            }
+        }
+    }
+
+    @Test
+    void testBoundsAndClose() throws InterruptedException {
+        OffHeapLongArray array = OffHeapLongArray.allocate(3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.set(-1, 0));
+        assertTrue(array.isOpen());
+
+        OffHeapAccess access = array.open();
+        Thread closer = new Thread(array::close);
+        closer.start();
+        closer.join(50);
+        assertTrue(closer.isAlive());
+        assertEquals(0, array.get(0));
+        access.close();
+        closer.join();
+        assertFalse(array.isOpen());
+        assertThrows(IllegalStateException.class, array::open);
+        assertThrows(IllegalStateException.class, () -> array.get(0));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapLongArray.allocate(-1));
+    }
+}
@@ -0,0 +1,145 @@
+package com.aitbek.mst.server;
+
+import com.aitbek.mst.io.BinaryGraphFormat;
+import com.aitbek.mst.model.Graph;
+import com.aitbek.mst.service.MSTService;
+import com.aitbek.mst.service.MSTSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MSTServerTest {
+    private MSTServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MSTServer(0, Graph.createSampleGraph());
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void testWeightAndMst() throws Exception {
+        HttpResponse<String> weight = get("/weight");
+        assertEquals(200, weight.statusCode());
+        assertTrue(weight.body().contains("\"totalWeight\":11"));
+
+        HttpResponse<String> mst = get("/mst");
+        assertEquals(200, mst.statusCode());
+        assertTrue(mst.body().contains("[1,2,1]"));
+        assertTrue(mst.headers().firstValueAsLong("Content-Length").isPresent());
+    }
+
+    @Test
+    void testReplacementQueries() throws Exception {
+        HttpResponse<String> single = get("/replacement?source=1&destination=3");
+        assertEquals(200, single.statusCode());
+        assertTrue(single.body().contains("\"replacement\":[2,3,4]"));
+        assertTrue(single.body().contains("\"newWeight\":13"));
+
+        HttpResponse<String> batch = post("/replacements", "1 3 2\n3 5 6\n1 x\n");
+        String[] lines = batch.body().split("\n");
+        assertEquals(200, batch.statusCode());
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].contains("\"treeEdge\":false"));
+        assertTrue(lines[2].contains("\"error\""));
+        assertEquals("application/x-ndjson", batch.headers().firstValue("Content-Type").orElse(""));
+    }
+
+    @Test
+    void testRemoveAndLoadGraph() throws Exception {
+        HttpResponse<String> removed = post("/remove", "1 3 2\n");
+        assertTrue(removed.body().contains("\"removed\":1"));
+        assertTrue(removed.body().contains("\"totalWeight\":13"));
+        assertEquals(1, server.snapshot().getVersion());
+
+        HttpResponse<String> loaded = post("/graph", "3\n0 1 5\n1 2 7\n0 2 1\n");
+        assertEquals(200, loaded.statusCode());
+        assertTrue(loaded.body().contains("\"totalWeight\":6"));
+        assertTrue(loaded.body().contains("\"version\":2"));
+        assertEquals(2, server.snapshot().getVersion());
+    }
+
+    @Test
+    void testLoadMappedGraph(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("graph.bin");
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(1, 2, 7);
+        graph.addEdge(0, 2, 1);
+        BinaryGraphFormat.write(file, graph);
+
+        HttpResponse<String> loaded = post("/graph?path=" + file, "");
+        assertEquals(200, loaded.statusCode());
+        assertTrue(loaded.body().contains("\"totalWeight\":6"));
+        assertTrue(post("/remove", "0 2 1\n").body().contains("\"totalWeight\":12"));
+        assertTrue(get("/replacement?source=1&destination=2").body().contains("\"treeEdge\":true"));
+    }
+
+    @Test
+    void testErrors() throws Exception {
+        assertEquals(405, post("/mst", "").statusCode());
+        assertEquals(400, get("/replacement?source=1&destination=99").statusCode());
+        assertEquals(400, post("/graph", "2\n0 5 1\n").statusCode());
+        assertEquals(500, post("/graph?path=/does/not/exist.bin", "").statusCode());
+    }
+
+    @Test
+    void testServerClosesOwnedResource() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        server.close();
+        server = new MSTServer(0, new MSTService(Graph.createSampleGraph()), () -> closed.set(true));
+        server.start();
+
+        assertEquals(200, get("/weight").statusCode());
+        assertFalse(closed.get());
+        server.close();
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testUnexpectedFailureIsServerError() throws Exception {
+        server.close();
+        server = new MSTServer(0, new MSTService(Graph.createSampleGraph()) {
+            @Override
+            public MSTSnapshot update(Consumer<Updater> changes) {
+                throw new IllegalStateException("broken");
+            }
+        });
+        server.start();
+
+        HttpResponse<String> response = post("/remove", "1 3 2\n");
+        assertEquals(500, response.statusCode());
+        assertTrue(response.body().contains("broken"));
+        assertTrue(response.headers().firstValueAsLong("Content-Length").isPresent());
+    }
+}
@@ -0,0 +1,198 @@
+package com.aitbek.mst.service;
+
+import com.aitbek.mst.io.MappedSnapshot;
+import com.aitbek.mst.io.SnapshotFormat;
+import com.aitbek.mst.model.Edge;
+import com.aitbek.mst.model.Graph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MSTServiceTest {
+
+    @Test
+    void testInitialSnapshot() {
+        MSTService service = new MSTService(Graph.createSampleGraph());
+        MSTSnapshot snapshot = service.snapshot();
+
+        assertEquals(0, snapshot.getVersion());
+        assertEquals(11, snapshot.getTotalWeight());
+        assertEquals(5, snapshot.getMST().size());
+        assertEquals(new Edge(2, 3, 4), snapshot.findReplacementEdge(new Edge(1, 3, 2)));
+    }
+
+    @Test
+    void testWarmStartFromMappedSnapshot(@TempDir Path tempDir) throws IOException {
+        Graph graph = Graph.createSampleGraph();
+        Path file = tempDir.resolve("sample.snapshot");
+        SnapshotFormat.write(file, graph);
+
+        try (MappedSnapshot mapped = MappedSnapshot.open(file, graph)) {
+            MSTService service = new MSTService(graph, mapped);
+            MSTSnapshot snapshot = service.snapshot();
+
+            assertEquals(11, snapshot.getTotalWeight());
+            assertEquals(new Edge(1, 3, 2), snapshot.findTreeEdge(3, 1));
+            assertEquals(new Edge(2, 3, 4), snapshot.findReplacementEdge(new Edge(1, 3, 2)));
+            assertEquals(new Edge(2, 3, 4), snapshot.getReplacementIndex().getReplacement(new Edge(1, 3, 2)));
+
+            MSTSnapshot next = service.update(updater -> {
+                assertTrue(updater.removeEdge(new Edge(1, 3, 2)));
+                updater.insertEdge(2, 4, 3);
+            });
+            assertEquals(12, next.getTotalWeight());
+            assertFalse(next.isTreeEdge(new Edge(1, 3, 2)));
+            assertEquals(new Edge(2, 4, 3), next.findTreeEdge(4, 2));
+            assertEquals(new Edge(2, 3, 4), next.getReplacementIndex().getReplacement(new Edge(3, 4, 2)));
+            assertEquals(new Edge(2, 3, 4), next.getReplacementIndex().getReplacement(new Edge(2, 4, 3)));
+        }
+    }
+
+    @Test
+    void testUpdatesPublishNewVersionsWithoutChangingOldSnapshots() {
+        MSTService service = new MSTService(Graph.createSampleGraph());
+        MSTSnapshot before = service.snapshot();
+
+        MSTSnapshot afterRemoval = service.removeEdge(new Edge(1, 3, 2));
+        MSTSnapshot afterInsert = service.insertEdge(0, 5, 1);
+
+        assertEquals(11, before.getTotalWeight());
+        assertEquals(8, before.getEdges().size());
+        assertEquals(1, afterRemoval.getVersion());
+        assertEquals(13, afterRemoval.getTotalWeight());
+        assertEquals(2, afterInsert.getVersion());
+        assertSame(afterInsert, service.snapshot());
+        assertTrue(afterInsert.isTreeEdge(new Edge(0, 5, 1)));
+        assertThrows(UnsupportedOperationException.class, () -> afterInsert.getMST().clear());
+    }
+
+    @Test
+    void testBatchUpdatePublishesOnce() {
+        MSTService service = new MSTService(Graph.createSampleGraph());
+
+        MSTSnapshot snapshot = service.update(updater -> {
+            assertTrue(updater.removeEdge(new Edge(1, 2, 1)));
+            assertFalse(updater.removeEdge(new Edge(0, 4, 9)));
+            updater.insertEdge(0, 3, 1);
+        });
+
+        assertEquals(1, snapshot.getVersion());
+        assertEquals(8, snapshot.getEdges().size());
+        assertEquals(5, snapshot.getMST().size());
+    }
+
+    @Test
+    void testBatchWithoutChangesKeepsCurrentVersion() {
+        MSTService service = new MSTService(Graph.createSampleGraph());
+        MSTSnapshot before = service.snapshot();
+
+        assertSame(before, service.removeEdge(new Edge(0, 4, 9)));
+        assertSame(before, service.update(updater -> assertFalse(updater.removeEdge(new Edge(1, 3, 7)))));
+        assertEquals(1, service.removeEdge(new Edge(1, 3, 2)).getVersion());
+    }
+
+    @Test
+    void testFailedBatchIsRolledBack() {
+        MSTService service = new MSTService(Graph.createSampleGraph());
+        MSTSnapshot before = service.snapshot();
+
+        assertThrows(IllegalStateException.class, () -> service.update(updater -> {
+            assertTrue(updater.removeEdge(new Edge(1, 3, 2)));
+            updater.insertEdge(0, 5, 1);
+            assertTrue(updater.removeEdge(new Edge(0, 1, 4)));
+            throw new IllegalStateException("abort");
+        }));
+        assertThrows(IllegalArgumentException.class, () -> service.insertEdge(0, 99, 1));
+
+        assertSame(before, service.snapshot());
+        MSTSnapshot after = service.update(updater -> {
+            assertFalse(updater.removeEdge(new Edge(0, 5, 1)));
+            assertTrue(updater.removeEdge(new Edge(1, 3, 2)));
+        });
+        assertEquals(1, after.getVersion());
+        assertEquals(13, after.getTotalWeight());
+        assertEquals(7, after.getEdgeCount());
+        assertEquals(7, after.getEdges().size());
+        assertTrue(after.isTreeEdge(new Edge(2, 3, 4)));
+        assertFalse(after.isTreeEdge(new Edge(0, 1, 4)));
+    }
+
+    @Test
+    void testReadersSeeConsistentSnapshotsUnderContention() throws Exception {
+        int vertices = 200;
+        Graph graph = new Graph(vertices);
+        Random setup = new Random(17);
+        for (int i = 1; i < vertices; i++) {
+            graph.addEdge(i - 1, i, 1000);
+        }
+        for (int i = 0; i < 600; i++) {
+            graph.addEdge(setup.nextInt(vertices), setup.nextInt(vertices), setup.nextInt(100));
+        }
+
+        MSTService service = new MSTService(graph);
+        int readers = 6;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(readers);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        for (int r = 0; r < readers; r++) {
+            results.add(executor.submit(() -> {
+                started.countDown();
+                long lastVersion = -1;
+                int reads = 0;
+                while (running.get()) {
+                    MSTSnapshot snapshot = service.snapshot();
+                    assertTrue(snapshot.getVersion() >= lastVersion);
+                    lastVersion = snapshot.getVersion();
+
+                    List<Edge> mst = snapshot.getMST();
+                    assertEquals(vertices - 1, mst.size());
+                    assertEquals(snapshot.getTotalWeight(), mst.stream().mapToLong(Edge::getWeight).sum());
+
+                    Edge treeEdge = mst.get(reads % mst.size());
+                    Edge replacement = snapshot.findReplacementEdge(treeEdge);
+                    if (replacement != null) {
+                        assertTrue(replacement.getWeight() >= treeEdge.getWeight());
+                        assertTrue(snapshot.getCut(treeEdge).crosses(replacement));
+                    }
+                    reads++;
+                }
+                return reads;
+            }));
+        }
+
+        started.await();
+        Random random = new Random(23);
+        List<Edge> inserted = new ArrayList<>();
+        for (int step = 0; step < 300; step++) {
+            if (inserted.isEmpty() || random.nextBoolean()) {
+                Edge edge = new Edge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(100));
+                service.insertEdge(edge.getSource(), edge.getDestination(), edge.getWeight());
+                inserted.add(edge);
+            } else {
+                assertTrue(service.removeEdge(inserted.remove(random.nextInt(inserted.size()))).getVersion() > 0);
+            }
+        }
+        running.set(false);
+
+        for (Future<Integer> result : results) {
+            assertTrue(result.get(30, TimeUnit.SECONDS) > 0);
+        }
+        executor.shutdown();
+        assertEquals(300, service.snapshot().getVersion());
+    }
+}